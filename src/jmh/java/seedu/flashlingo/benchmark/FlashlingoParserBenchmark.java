@@ -0,0 +1,41 @@
+package seedu.flashlingo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashlingo.logic.commands.Command;
+import seedu.flashlingo.logic.parser.FlashlingoParser;
+import seedu.flashlingo.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing typical user input outside of a review session.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class FlashlingoParserBenchmark {
+
+    @Param({"add w/hello t/bonjour wl/English tl/French", "edit 1 w/hi tl/German", "delete 1", "find Meier Kurz",
+        "language French", "list", "load words.xlsx"})
+    public String userInput;
+
+    private final FlashlingoParser parser = new FlashlingoParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.flashlingo.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashlingo.commons.exceptions.DataLoadingException;
+import seedu.flashlingo.model.Flashlingo;
+import seedu.flashlingo.model.ReadOnlyFlashlingo;
+import seedu.flashlingo.storage.JsonFlashlingoStorage;
+
+/**
+ * Measures reading and writing a whole deck with {@code JsonFlashlingoStorage}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class JsonFlashlingoStorageBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int deckSize;
+
+    private Path folder;
+    private Flashlingo flashlingo;
+    private JsonFlashlingoStorage readStorage;
+    private JsonFlashlingoStorage saveStorage;
+
+    /**
+     * Generates the deck and writes it to the file that is read back.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("flashlingo-benchmark");
+        flashlingo = SyntheticDecks.generateFlashlingo(deckSize, System.currentTimeMillis());
+        readStorage = new JsonFlashlingoStorage(folder.resolve("read.json"));
+        saveStorage = new JsonFlashlingoStorage(folder.resolve("save.json"));
+        readStorage.saveFlashlingo(flashlingo);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readStorage.getFlashlingoFilePath());
+        Files.deleteIfExists(saveStorage.getFlashlingoFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyFlashlingo> read() throws DataLoadingException {
+        return readStorage.readFlashlingo();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.saveFlashlingo(flashlingo);
+    }
+}
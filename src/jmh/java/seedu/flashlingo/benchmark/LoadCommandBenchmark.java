@@ -0,0 +1,72 @@
+package seedu.flashlingo.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashlingo.logic.commands.CommandResult;
+import seedu.flashlingo.logic.commands.LoadCommand;
+import seedu.flashlingo.logic.commands.exceptions.CommandException;
+import seedu.flashlingo.model.ModelManager;
+
+/**
+ * Measures importing a whole xlsx deck into an empty model with the load command.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class LoadCommandBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int deckSize;
+
+    private Path file;
+    private LoadCommand loadCommand;
+    private ModelManager model;
+
+    /**
+     * Writes the deck to the xlsx file that is loaded.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("flashlingo-benchmark", ".xlsx");
+        SyntheticDecks.writeXlsx(SyntheticDecks.generate(deckSize, System.currentTimeMillis()), file);
+        loadCommand = new LoadCommand(file.toString());
+    }
+
+    /**
+     * Gives every load an empty model, so that no card is a duplicate.
+     */
+    @Setup(Level.Invocation)
+    public void createModel() {
+        model = new ModelManager();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public CommandResult load() throws CommandException {
+        return loadCommand.execute(model);
+    }
+}
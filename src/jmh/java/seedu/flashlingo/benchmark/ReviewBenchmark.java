@@ -0,0 +1,69 @@
+package seedu.flashlingo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashlingo.logic.commands.CommandResult;
+import seedu.flashlingo.logic.commands.NoCommand;
+import seedu.flashlingo.logic.commands.YesCommand;
+import seedu.flashlingo.logic.commands.exceptions.CommandException;
+import seedu.flashlingo.model.ModelManager;
+import seedu.flashlingo.model.UserPrefs;
+
+/**
+ * Measures answering cards in a review session, timing {@link #ANSWERS_PER_ITERATION} {@code yes} or {@code no}
+ * commands per iteration.
+ * Every iteration reviews a newly generated deck in a single session over all its overdue cards, which are about
+ * half of the deck, so that the session never runs out within an iteration. The deck is generated and the session
+ * started outside the timed commands, so that neither their time nor their allocations are counted.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 5, batchSize = ReviewBenchmark.ANSWERS_PER_ITERATION)
+@Measurement(iterations = 10, batchSize = ReviewBenchmark.ANSWERS_PER_ITERATION)
+@State(Scope.Benchmark)
+public class ReviewBenchmark {
+    /** The number of answers timed per iteration, which the overdue cards of the smallest deck cover. */
+    public static final int ANSWERS_PER_ITERATION = 2000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int deckSize;
+
+    private final YesCommand yesCommand = new YesCommand();
+    private final NoCommand noCommand = new NoCommand();
+    private ModelManager model;
+
+    /**
+     * Starts a review session over all overdue cards of a newly generated deck.
+     */
+    @Setup(Level.Iteration)
+    public void startSession() throws CommandException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setReviewBatchSize(0); // No limit, so that the session lasts the whole iteration
+        model = new ModelManager(SyntheticDecks.generateFlashlingo(deckSize, System.currentTimeMillis()), userPrefs);
+        model.startSession();
+    }
+
+    @Benchmark
+    public CommandResult yes() throws CommandException {
+        return yesCommand.execute(model);
+    }
+
+    @Benchmark
+    public CommandResult no() throws CommandException {
+        return noCommand.execute(model);
+    }
+}
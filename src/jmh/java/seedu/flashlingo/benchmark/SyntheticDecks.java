@@ -0,0 +1,124 @@
+package seedu.flashlingo.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import seedu.flashlingo.model.Flashlingo;
+import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.model.flashcard.words.Word;
+import seedu.flashlingo.testutil.FlashCardBuilder;
+import seedu.flashlingo.testutil.TypicalFlashCards;
+
+/**
+ * Builds decks of any size for the benchmarks by numbering copies of the typical flash cards.
+ * Decks of the same size are always the same, apart from review dates, which are relative to the given time.
+ */
+public class SyntheticDecks {
+
+    private static final long SEED = 2103;
+    private static final long DAY_IN_MS = 86400000L;
+    private static final int REVIEW_SPREAD_IN_DAYS = 30;
+    private static final int MAX_GENERATED_LEVEL = 4;
+
+    private static final String MAIN_NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String RELATIONSHIPS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String PACKAGE_RELATIONSHIPS = "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+
+    private SyntheticDecks() {} // prevents instantiation
+
+    /**
+     * Returns {@code size} distinct flash cards below review level 5, about half of which are overdue at {@code now}.
+     */
+    public static List<FlashCard> generate(int size, long now) {
+        List<FlashCard> typicalFlashCards = TypicalFlashCards.getTypicalFlashCards();
+        Random random = new Random(SEED);
+        List<FlashCard> deck = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            FlashCard template = typicalFlashCards.get(i % typicalFlashCards.size());
+            String suffix = " " + (i / typicalFlashCards.size());
+            Word originalWord = template.getOriginalWord();
+            Word translatedWord = template.getTranslatedWord();
+            long reviewOffset = (random.nextInt(2 * REVIEW_SPREAD_IN_DAYS + 1) - REVIEW_SPREAD_IN_DAYS) * DAY_IN_MS;
+            deck.add(new FlashCardBuilder(template)
+                    .withOriginalWord(originalWord.getWord() + suffix, originalWord.getLanguage())
+                    .withTranslatedWord(translatedWord.getWord() + suffix, translatedWord.getLanguage())
+                    .withWhenToReview(now + reviewOffset)
+                    .withLevel(1 + random.nextInt(MAX_GENERATED_LEVEL))
+                    .build());
+        }
+        return deck;
+    }
+
+    /**
+     * Returns a {@code Flashlingo} holding a deck generated by {@link #generate(int, long)}.
+     */
+    public static Flashlingo generateFlashlingo(int size, long now) {
+        Flashlingo flashlingo = new Flashlingo();
+        flashlingo.setFlashCards(generate(size, now));
+        return flashlingo;
+    }
+
+    /**
+     * Writes the words of {@code deck} to an xlsx file in the format read by the load command,
+     * one card per row, with inline strings so that the file does not need a shared strings table.
+     */
+    public static void writeXlsx(List<FlashCard> deck, Path filePath) throws IOException {
+        try (OutputStream out = Files.newOutputStream(filePath); ZipOutputStream zip = new ZipOutputStream(out)) {
+            Writer writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+            addEntry(zip, writer, "[Content_Types].xml", "<Types xmlns=\"http://schemas.openxmlformats.org/package/"
+                    + "2006/content-types\"><Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-"
+                    + "package.relationships+xml\"/><Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+                    + "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-"
+                    + "officedocument.spreadsheetml.sheet.main+xml\"/><Override PartName=\"/xl/worksheets/sheet1.xml\""
+                    + " ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>"
+                    + "</Types>");
+            addEntry(zip, writer, "_rels/.rels", "<Relationships xmlns=\"" + PACKAGE_RELATIONSHIPS + "\">"
+                    + "<Relationship Id=\"rId1\" Type=\"" + RELATIONSHIPS + "/officeDocument\""
+                    + " Target=\"xl/workbook.xml\"/></Relationships>");
+            addEntry(zip, writer, "xl/workbook.xml", "<workbook xmlns=\"" + MAIN_NAMESPACE + "\" xmlns:r=\""
+                    + RELATIONSHIPS + "\"><sheets><sheet name=\"Sheet1\" sheetId=\"1\" r:id=\"rId1\"/></sheets>"
+                    + "</workbook>");
+            addEntry(zip, writer, "xl/_rels/workbook.xml.rels", "<Relationships xmlns=\"" + PACKAGE_RELATIONSHIPS
+                    + "\"><Relationship Id=\"rId1\" Type=\"" + RELATIONSHIPS + "/worksheet\""
+                    + " Target=\"worksheets/sheet1.xml\"/></Relationships>");
+
+            zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+            writer.write(XML_DECLARATION + "<worksheet xmlns=\"" + MAIN_NAMESPACE + "\"><sheetData>");
+            for (int i = 0; i < deck.size(); i++) {
+                FlashCard flashCard = deck.get(i);
+                int rowNumber = i + 1;
+                writer.write("<row r=\"" + rowNumber + "\">");
+                writeInlineString(writer, "A" + rowNumber, flashCard.getOriginalWord().getWord());
+                writeInlineString(writer, "B" + rowNumber, flashCard.getTranslatedWord().getWord());
+                writer.write("</row>");
+            }
+            writer.write("</sheetData></worksheet>");
+            writer.flush();
+            zip.closeEntry();
+        }
+    }
+
+    private static void addEntry(ZipOutputStream zip, Writer writer, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(XML_DECLARATION + content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private static void writeInlineString(Writer writer, String reference, String text) throws IOException {
+        writer.write("<c r=\"" + reference + "\" t=\"inlineStr\"><is><t>");
+        writer.write(text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;"));
+        writer.write("</t></is></c>");
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.flashlingo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.model.flashcard.UniqueFlashCardList;
+import seedu.flashlingo.testutil.FlashCardBuilder;
+
+/**
+ * Measures building and querying a {@code UniqueFlashCardList}.
+ * The whole-deck benchmarks count one operation per deck, the others one per card.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class UniqueFlashCardListBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int deckSize;
+
+    private List<FlashCard> deck;
+    private UniqueFlashCardList fullList;
+    private FlashCard missingFlashCard;
+    private int nextProbe;
+
+    /**
+     * Generates the deck and a list that already holds it.
+     */
+    @Setup
+    public void setUp() {
+        deck = SyntheticDecks.generate(deckSize, System.currentTimeMillis());
+        fullList = new UniqueFlashCardList();
+        fullList.setFlashCards(deck);
+        missingFlashCard = new FlashCardBuilder().withOriginalWord("missing", "English")
+                .withTranslatedWord("absent", "French").build();
+    }
+
+    /**
+     * Adds the deck one card at a time to an empty list.
+     */
+    @Benchmark
+    public UniqueFlashCardList addWholeDeck() {
+        UniqueFlashCardList list = new UniqueFlashCardList();
+        for (FlashCard flashCard : deck) {
+            list.add(flashCard);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public UniqueFlashCardList addAllWholeDeck() {
+        UniqueFlashCardList list = new UniqueFlashCardList();
+        list.addAll(deck);
+        return list;
+    }
+
+    @Benchmark
+    public UniqueFlashCardList setFlashCardsWholeDeck() {
+        UniqueFlashCardList list = new UniqueFlashCardList();
+        list.setFlashCards(deck);
+        return list;
+    }
+
+    /**
+     * Looks up a different card of the deck each time.
+     */
+    @Benchmark
+    public boolean containsPresent() {
+        nextProbe = (nextProbe + 1) % deckSize;
+        return fullList.contains(deck.get(nextProbe));
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return fullList.contains(missingFlashCard);
+    }
+}
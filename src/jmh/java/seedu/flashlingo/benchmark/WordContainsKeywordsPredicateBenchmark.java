@@ -0,0 +1,98 @@
+package seedu.flashlingo.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashlingo.model.Flashlingo;
+import seedu.flashlingo.model.Model;
+import seedu.flashlingo.model.ModelManager;
+import seedu.flashlingo.model.UserPrefs;
+import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.model.flashcard.WordContainsKeywordsPredicate;
+import seedu.flashlingo.model.flashcard.WordSimilarToKeywordsPredicate;
+
+/**
+ * Measures finding cards by keywords over a whole deck, with the bare predicate, through the filtered list of
+ * the model and through the model's word index, as the find command does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class WordContainsKeywordsPredicateBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int deckSize;
+
+    private final WordContainsKeywordsPredicate predicate =
+            new WordContainsKeywordsPredicate(Arrays.asList("Meier", "kurz"));
+    private final WordSimilarToKeywordsPredicate similarPredicate =
+            new WordSimilarToKeywordsPredicate(Arrays.asList("Meir", "kurtz"));
+    private List<FlashCard> deck;
+    private ModelManager model;
+
+    /**
+     * Generates the deck and a model holding it.
+     */
+    @Setup
+    public void setUp() {
+        deck = SyntheticDecks.generate(deckSize, System.currentTimeMillis());
+        Flashlingo flashlingo = new Flashlingo();
+        flashlingo.setFlashCards(deck);
+        model = new ModelManager(flashlingo, new UserPrefs());
+    }
+
+    @Benchmark
+    public long testWholeDeck() {
+        return deck.stream().filter(predicate).count();
+    }
+
+    /**
+     * Filters the model's list with the predicate and then shows all cards again, as {@code find} and
+     * {@code list} would.
+     */
+    @Benchmark
+    public int filterModel() {
+        model.updateFilteredFlashCardList(predicate);
+        int matches = model.getFilteredFlashCardList().size();
+        model.updateFilteredFlashCardList(Model.PREDICATE_SHOW_ALL_FLASHCARDS);
+        return matches;
+    }
+
+    /**
+     * Does the same as {@link #filterModel()}, but looks the cards up in the model's word index like {@code find}.
+     */
+    @Benchmark
+    public int findModel() {
+        model.findFlashCards(predicate);
+        int matches = model.getFilteredFlashCardList().size();
+        model.updateFilteredFlashCardList(Model.PREDICATE_SHOW_ALL_FLASHCARDS);
+        return matches;
+    }
+
+    /**
+     * Finds the cards spelt like misspelt keywords through the model's BK-tree, as {@code find ~} does.
+     */
+    @Benchmark
+    public int findSimilarModel() {
+        model.findSimilarFlashCards(similarPredicate);
+        int matches = model.getFilteredFlashCardList().size();
+        model.updateFilteredFlashCardList(Model.PREDICATE_SHOW_ALL_FLASHCARDS);
+        return matches;
+    }
+}
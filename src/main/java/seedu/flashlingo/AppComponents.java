@@ -0,0 +1,197 @@
+package seedu.flashlingo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.flashlingo.commons.core.Config;
+import seedu.flashlingo.commons.core.LogsCenter;
+import seedu.flashlingo.commons.exceptions.DataLoadingException;
+import seedu.flashlingo.commons.util.ConfigUtil;
+import seedu.flashlingo.commons.util.StringUtil;
+import seedu.flashlingo.logic.Logic;
+import seedu.flashlingo.logic.LogicManager;
+import seedu.flashlingo.model.Flashlingo;
+import seedu.flashlingo.model.Model;
+import seedu.flashlingo.model.ModelManager;
+import seedu.flashlingo.model.ReadOnlyFlashlingo;
+import seedu.flashlingo.model.ReadOnlyUserPrefs;
+import seedu.flashlingo.model.UserPrefs;
+import seedu.flashlingo.model.util.SampleDataUtil;
+import seedu.flashlingo.storage.AsyncStorage;
+import seedu.flashlingo.storage.FlashlingoStorage;
+import seedu.flashlingo.storage.JournalFlashlingoStorage;
+import seedu.flashlingo.storage.JsonFlashlingoStorage;
+import seedu.flashlingo.storage.JsonUserPrefsStorage;
+import seedu.flashlingo.storage.Storage;
+import seedu.flashlingo.storage.StorageManager;
+import seedu.flashlingo.storage.UserPrefsStorage;
+
+/**
+ * The components of the application that do not depend on the UI: the config, storage, model and logic.
+ * They are shared by the GUI in {@link MainApp} and by {@link HeadlessApp}, and load no JavaFX graphics.
+ */
+public class AppComponents {
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppComponents(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Reads the config from {@code configPath}, or from {@code Config#DEFAULT_CONFIG_FILE} if it is null,
+     * and sets up logging and the components it configures.
+     */
+    public static AppComponents init(Path configPath) {
+        Config config = initConfig(configPath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        FlashlingoStorage flashlingoStorage = config.isJournalStorageEnabled()
+                ? new JournalFlashlingoStorage(userPrefs.getFlashlingoFilePath())
+                : new JsonFlashlingoStorage(userPrefs.getFlashlingoFilePath());
+
+        Storage storage = new AsyncStorage(new StorageManager(flashlingoStorage, userPrefsStorage));
+
+        Model model = initModelManager(storage, userPrefs);
+
+        Logic logic = new LogicManager(model, storage);
+
+        return new AppComponents(config, storage, model, logic);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s Flashlingo and {@code userPrefs}. <br>
+     * The data from the sample Flashlingo will be used instead if {@code storage}'s Flashlingo is not found,
+     * or an empty Flashlingo will be used instead if errors occur when reading {@code storage}'s Flashlingo.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getFlashlingoFilePath());
+
+        Optional<ReadOnlyFlashlingo> flashlingoOptional;
+        ReadOnlyFlashlingo initialData;
+        try {
+            flashlingoOptional = storage.readFlashlingo();
+            if (!flashlingoOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getFlashlingoFilePath()
+                        + " populated with a sample Flashlingo.");
+            }
+            initialData = flashlingoOptional.orElseGet(SampleDataUtil::getSampleFlashlingo);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getFlashlingoFilePath() + " could not be loaded."
+                    + " Will be starting with an empty Flashlingo.");
+            initialData = new Flashlingo();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating a new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences now.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Saves the user prefs and waits for all pending writes to storage to finish.
+     */
+    public void stop() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.flashlingo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.flashlingo.commons.core.LogsCenter;
+import seedu.flashlingo.logic.BatchExecutor;
+import seedu.flashlingo.logic.Logic;
+import seedu.flashlingo.logic.commands.CommandResult;
+import seedu.flashlingo.logic.commands.exceptions.CommandException;
+import seedu.flashlingo.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without its GUI, so that no JavaFX graphics or FXML are loaded.
+ * Commands are read one per line from a file, or from standard input if no file is given, and their results are
+ * written to standard output. Blank lines and lines starting with {@value BatchExecutor#COMMENT_MARKER} are skipped.
+ * Usage: {@code java -jar flashlingo.jar --headless [--config=CONFIG_FILE] [COMMAND_FILE]}
+ */
+public class HeadlessApp {
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String MESSAGE_READ_FAIL = "Commands could not be read: %s";
+    /** Exit status when some commands failed. */
+    public static final int STATUS_COMMAND_FAILED = 1;
+    /** Exit status when the commands could not be read. */
+    public static final int STATUS_READ_FAILED = 2;
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}, writing their results to {@code out}
+     * and their errors to {@code err}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Executes the commands read from {@code reader} until it ends or an exit command is executed.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException If an error occurs while reading the commands.
+     */
+    public int run(BufferedReader reader) throws IOException {
+        int failedCount = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(BatchExecutor.COMMENT_MARKER)) {
+                continue;
+            }
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(e.getMessage());
+                failedCount++;
+            }
+        }
+        return failedCount;
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        String commandFile = null;
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separator > 0) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separator),
+                        arg.substring(separator + 1));
+            } else {
+                commandFile = arg;
+            }
+        }
+
+        logger.info("=========================[ Initializing headless Flashlingo ]========================");
+        AppComponents components = AppComponents.init(AppParameters.parse(namedParameters).getConfigPath());
+        HeadlessApp app = new HeadlessApp(components.getLogic(), System.out, System.err);
+        int status;
+        try (BufferedReader reader = commandFile == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(commandFile), StandardCharsets.UTF_8)) {
+            status = app.run(reader) == 0 ? 0 : STATUS_COMMAND_FAILED;
+        } catch (IOException | InvalidPathException e) {
+            System.err.println(String.format(MESSAGE_READ_FAIL, e.getMessage()));
+            status = STATUS_READ_FAILED;
+        } finally {
+            logger.info("========================== [ Stopping headless Flashlingo ] ==========================");
+            components.stop();
+        }
+        System.exit(status);
+    }
+}
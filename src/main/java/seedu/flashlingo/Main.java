@@ -1,5 +1,6 @@
 package seedu.flashlingo;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,11 +21,17 @@ import seedu.flashlingo.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --headless}, it runs {@link HeadlessApp} instead, which does not start JavaFX at all.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(HeadlessApp.HEADLESS_FLAG)) {
+            HeadlessApp.main(args);
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
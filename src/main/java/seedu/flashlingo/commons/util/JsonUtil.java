@@ -11,6 +11,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -111,6 +113,38 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns a parser that streams the JSON tokens of the given file, instead of reading the whole file first.
+     * The caller is responsible for closing the parser, which also closes the file.
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a pretty printing generator that streams JSON tokens to the given file, replacing its contents.
+     * The caller is responsible for closing the generator, which also flushes and closes the file.
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonGenerator createGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createGenerator(Files.newOutputStream(filePath)).useDefaultPrettyPrinter();
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -38,6 +38,37 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code s} and {@code t}, which is the least number of
+     * single-character insertions, deletions and substitutions that turn one into the other.
+     * @throws NullPointerException if {@code s} or {@code t} is null.
+     */
+    public static int editDistance(String s, String t) {
+        requireNonNull(s);
+        requireNonNull(t);
+        if (s.length() < t.length()) {
+            return editDistance(t, s);
+        }
+
+        // Only the previous row of the distance table is needed, and rows are as long as the shorter string
+        int[] previous = new int[t.length() + 1];
+        int[] current = new int[t.length() + 1];
+        for (int j = 0; j <= t.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= s.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= t.length(); j++) {
+                int substitution = previous[j - 1] + (s.charAt(i - 1) == t.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[t.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
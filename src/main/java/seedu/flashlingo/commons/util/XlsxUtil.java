@@ -0,0 +1,140 @@
+package seedu.flashlingo.commons.util;
+
+import static seedu.flashlingo.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.logging.Logger;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.ooxml.POIXMLException;
+import org.apache.poi.openxml4j.exceptions.InvalidOperationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import seedu.flashlingo.commons.core.LogsCenter;
+import seedu.flashlingo.commons.exceptions.DataLoadingException;
+
+/**
+ * Reads xlsx files one row at a time, without building the whole workbook in memory.
+ */
+public class XlsxUtil {
+
+    private static final Logger logger = LogsCenter.getLogger(XlsxUtil.class);
+
+    private static final String DISALLOW_DOCTYPE_FEATURE = "http://apache.org/xml/features/disallow-doctype-decl";
+
+    /**
+     * Handles the rows of a sheet as they are read.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * Handles the row numbered {@code rowNumber}, counting from 1, whose leading cells are {@code cells}.
+         * Missing cells are empty strings.
+         */
+        void handleRow(int rowNumber, String[] cells);
+    }
+
+    /**
+     * Streams the rows of the first sheet of the given xlsx file to {@code rowHandler}, in the order they are stored.
+     * Only the first {@code columnCount} cells of each row are read, and rows that the file does not store are
+     * skipped. Cells are formatted as they are displayed in Excel, and only the shared strings and styles of the
+     * workbook are kept in memory.
+     *
+     * @param filePath cannot be null.
+     * @throws DataLoadingException if the file is not a readable xlsx file.
+     */
+    public static void readFirstSheet(Path filePath, int columnCount, RowHandler rowHandler)
+            throws DataLoadingException {
+        requireAllNonNull(filePath, rowHandler);
+
+        OPCPackage xlsxPackage = null;
+        try {
+            xlsxPackage = OPCPackage.open(filePath.toString(), PackageAccess.READ);
+            XSSFReader xlsxReader = new XSSFReader(xlsxPackage);
+            Iterator<InputStream> sheets = xlsxReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            XMLReader xmlReader = createXmlReader();
+            xmlReader.setContentHandler(new XSSFSheetXMLHandler(xlsxReader.getStylesTable(),
+                    new ReadOnlySharedStringsTable(xlsxPackage), new RowCollector(columnCount, rowHandler),
+                    new DataFormatter(), false));
+            try (InputStream sheet = sheets.next()) {
+                xmlReader.parse(new InputSource(sheet));
+            }
+        } catch (IOException | OpenXML4JException | InvalidOperationException | POIXMLException
+                | UnsupportedFileFormatException | SAXException | ParserConfigurationException
+                | IllegalStateException e) { // Thrown by the shared strings for a cell with a missing shared string
+            logger.warning("Error reading from xlsx file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } finally {
+            if (xlsxPackage != null) {
+                xlsxPackage.revert();
+            }
+        }
+    }
+
+    private static XMLReader createXmlReader() throws SAXException, ParserConfigurationException {
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setFeature(DISALLOW_DOCTYPE_FEATURE, true);
+        return factory.newSAXParser().getXMLReader();
+    }
+
+    /**
+     * Collects the formatted cells of each row of a worksheet and passes the row on once it ends.
+     */
+    private static class RowCollector implements SheetContentsHandler {
+        private final int columnCount;
+        private final RowHandler rowHandler;
+        private String[] cells;
+        private int column;
+
+        RowCollector(int columnCount, RowHandler rowHandler) {
+            this.columnCount = columnCount;
+            this.rowHandler = rowHandler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new String[columnCount];
+            Arrays.fill(cells, "");
+            column = -1;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rowHandler.handleRow(rowNum + 1, cells);
+        }
+
+        /**
+         * Keeps the cell at {@code cellReference}, or at the column after the previous cell if it has no reference.
+         */
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            column = cellReference == null ? column + 1 : new CellReference(cellReference).getCol();
+            if (column < columnCount && formattedValue != null) {
+                cells[column] = formattedValue;
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.flashlingo.logic;
+
+import static seedu.flashlingo.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.flashlingo.logic.Messages.MESSAGE_IN_REVIEW_SESSION;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.flashlingo.commons.core.LogsCenter;
+import seedu.flashlingo.logic.commands.Command;
+import seedu.flashlingo.logic.commands.exceptions.CommandException;
+import seedu.flashlingo.logic.parser.FlashlingoParser;
+import seedu.flashlingo.logic.parser.exceptions.ParseException;
+import seedu.flashlingo.model.Model;
+
+/**
+ * Executes a batch of commands, one per line, as a single transaction.
+ * The commands work on the model itself, without saving in between. An atomic batch is run in a transaction
+ * of the model, so that it can be rolled back by undoing its changes, while the changes of a committed batch
+ * stay recorded for saving them incrementally.
+ */
+public class BatchExecutor {
+    public static final String MESSAGE_NOT_BATCHABLE = "This command cannot be run in a batch.";
+    public static final String COMMENT_MARKER = "#";
+
+    private final Logger logger = LogsCenter.getLogger(BatchExecutor.class);
+    private final FlashlingoParser flashlingoParser;
+
+    public BatchExecutor(FlashlingoParser flashlingoParser) {
+        this.flashlingoParser = flashlingoParser;
+    }
+
+    /**
+     * Executes the commands in {@code commandLines} in order, skipping blank lines and lines starting with
+     * {@value #COMMENT_MARKER}. A line that cannot be parsed or executed is reported in the result, and the
+     * following lines still run.
+     *
+     * @param model {@code Model} which the commands should operate on.
+     * @param commandLines The commands, one per line, which are read once.
+     * @param isAtomic Whether the whole batch is rolled back if any line fails.
+     * @return the result of the batch.
+     * @throws CommandException If the model is in a review session.
+     */
+    public BatchResult execute(Model model, Iterable<String> commandLines, boolean isAtomic)
+            throws CommandException {
+        requireAllNonNull(model, commandLines);
+        if (model.isReviewSession()) {
+            throw new CommandException(MESSAGE_IN_REVIEW_SESSION);
+        }
+
+        if (isAtomic) {
+            model.beginTransaction();
+        }
+        List<BatchResult.LineError> lineErrors = new ArrayList<>();
+        int executedCount = 0;
+        int lineNumber = 0;
+        boolean isCommitted = false;
+        try {
+            for (String commandLine : commandLines) {
+                lineNumber++;
+                String trimmedLine = commandLine.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+                try {
+                    Command command = flashlingoParser.parseCommand(trimmedLine);
+                    if (!command.isBatchable()) {
+                        throw new CommandException(MESSAGE_NOT_BATCHABLE);
+                    }
+                    command.execute(model);
+                    executedCount++;
+                } catch (ParseException | CommandException | IllegalArgumentException e) {
+                    lineErrors.add(new BatchResult.LineError(lineNumber, e.getMessage()));
+                }
+            }
+            isCommitted = !isAtomic || lineErrors.isEmpty();
+        } finally {
+            // Also rolls back the batch if reading its lines fails
+            if (isAtomic && isCommitted) {
+                model.commitTransaction();
+            } else if (isAtomic) {
+                model.rollBackTransaction();
+            }
+        }
+
+        if (!isCommitted) {
+            logger.info("Rolled back a batch of " + lineNumber + " lines with " + lineErrors.size() + " errors");
+            return new BatchResult(executedCount, lineErrors, false);
+        }
+        logger.info("Committed a batch of " + lineNumber + " lines with " + lineErrors.size() + " errors");
+        return new BatchResult(executedCount, lineErrors, true);
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.flashlingo.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.flashlingo.commons.util.ToStringBuilder;
+
+/**
+ * Represents the result of executing a batch of commands.
+ */
+public class BatchResult {
+
+    private final int executedCount;
+    private final List<LineError> lineErrors;
+    private final boolean isCommitted;
+
+    /**
+     * Constructs a {@code BatchResult} with the specified fields.
+     */
+    public BatchResult(int executedCount, List<LineError> lineErrors, boolean isCommitted) {
+        requireNonNull(lineErrors);
+        this.executedCount = executedCount;
+        this.lineErrors = Collections.unmodifiableList(lineErrors);
+        this.isCommitted = isCommitted;
+    }
+
+    /** Returns the number of commands that were executed successfully. */
+    public int getExecutedCount() {
+        return executedCount;
+    }
+
+    /** Returns the errors of the lines that failed, in order. */
+    public List<LineError> getLineErrors() {
+        return lineErrors;
+    }
+
+    public boolean hasErrors() {
+        return !lineErrors.isEmpty();
+    }
+
+    /** Returns true if the changes of the batch were applied to the model. */
+    public boolean isCommitted() {
+        return isCommitted;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchResult)) {
+            return false;
+        }
+
+        BatchResult otherBatchResult = (BatchResult) other;
+        return executedCount == otherBatchResult.executedCount
+                && lineErrors.equals(otherBatchResult.lineErrors)
+                && isCommitted == otherBatchResult.isCommitted;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(executedCount, lineErrors, isCommitted);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("executedCount", executedCount)
+                .add("lineErrors", lineErrors)
+                .add("isCommitted", isCommitted)
+                .toString();
+    }
+
+    /**
+     * The error of a line of a batch that could not be parsed or executed.
+     */
+    public static class LineError {
+        private final int lineNumber;
+        private final String message;
+
+        /**
+         * Constructs a {@code LineError} for the line at {@code lineNumber}, counting from 1.
+         */
+        public LineError(int lineNumber, String message) {
+            requireNonNull(message);
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof LineError)) {
+                return false;
+            }
+
+            LineError otherLineError = (LineError) other;
+            return lineNumber == otherLineError.lineNumber && message.equals(otherLineError.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, message);
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + message;
+        }
+    }
+}
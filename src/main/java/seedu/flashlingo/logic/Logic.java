@@ -25,6 +25,16 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in {@code commandLines} as one batch, and saves the changes once at the end.
+     * @param commandLines The commands, one per line.
+     * @param isAtomic Whether to roll back the whole batch if any line fails.
+     * @return the result of the batch, with the errors of the lines that failed.
+     * @throws CommandException If a review session is in progress, or an error occurs while saving the changes.
+     * @see BatchExecutor#execute(Model, Iterable, boolean)
+     */
+    BatchResult executeBatch(Iterable<String> commandLines, boolean isAtomic) throws CommandException;
+
     /**
      * Returns the Flashlingo.
      *
@@ -32,9 +42,20 @@ public interface Logic {
      */
     ReadOnlyFlashlingo getFlashlingo();
 
-    /** Returns an unmodifiable view of the filtered list of flashcards */
+    /**
+     * Returns an unmodifiable view of the filtered list of flashcards.
+     *
+     * @see Model#getFilteredFlashCardList()
+     */
     ObservableList<FlashCard> getFilteredFlashCardList();
 
+    /**
+     * Returns true if the model is in a review session.
+     *
+     * @see Model#isReviewSession()
+     */
+    boolean isReviewSession();
+
     /**
      * Returns the user prefs' Flashlingo file path.
      */
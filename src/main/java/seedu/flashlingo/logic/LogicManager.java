@@ -31,6 +31,9 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final FlashlingoParser flashlingoParser;
+    private final BatchExecutor batchExecutor;
+    private long savedFlashlingoVersion = -1;
+    private long savedUserPrefsVersion = -1;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -39,25 +42,59 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         flashlingoParser = new FlashlingoParser();
+        batchExecutor = new BatchExecutor(flashlingoParser);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        Command command = flashlingoParser.parseCommand(commandText);
-        CommandResult commandResult = command.execute(model);
+        Command command = flashlingoParser.parseCommand(commandText, model.isReviewSession());
+        CommandResult commandResult = command.execute(model, this::executeBatch);
 
+        if (command.isMutating()) {
+            saveChanges();
+        }
+
+        return commandResult;
+    }
+
+    @Override
+    public BatchResult executeBatch(Iterable<String> commandLines, boolean isAtomic) throws CommandException {
+        logger.info("----------------[BATCH]");
+
+        BatchResult batchResult = batchExecutor.execute(model, commandLines, isAtomic);
+
+        if (batchResult.isCommitted()) {
+            saveChanges();
+        }
+
+        return batchResult;
+    }
+
+    /**
+     * Writes the Flashlingo data and the user prefs to storage, skipping whichever has not changed
+     * since it was last saved.
+     *
+     * @throws CommandException If an error occurs while writing to storage.
+     */
+    private void saveChanges() throws CommandException {
+        long flashlingoVersion = model.getFlashlingoVersion();
+        long userPrefsVersion = model.getUserPrefsVersion();
         try {
-            storage.saveFlashlingo(model.getFlashlingo());
-            storage.saveUserPrefs(model.getUserPrefs());
+            if (flashlingoVersion != savedFlashlingoVersion) {
+                storage.saveFlashlingo(model.getFlashlingo());
+                savedFlashlingoVersion = flashlingoVersion;
+            }
+            if (userPrefsVersion != savedUserPrefsVersion) {
+                storage.saveUserPrefs(model.getUserPrefs());
+                savedUserPrefsVersion = userPrefsVersion;
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -70,6 +107,11 @@ public class LogicManager implements Logic {
         return model.getFilteredFlashCardList();
     }
 
+    @Override
+    public boolean isReviewSession() {
+        return model.isReviewSession();
+    }
+
     @Override
     public Path getFlashlingoFilePath() {
         return model.getFlashlingoFilePath();
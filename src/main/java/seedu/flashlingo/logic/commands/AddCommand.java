@@ -6,7 +6,6 @@ import static seedu.flashlingo.logic.parser.CliSyntax.PREFIX_ORIGINAL_WORD_LANGU
 import static seedu.flashlingo.logic.parser.CliSyntax.PREFIX_TRANSLATED_WORD;
 import static seedu.flashlingo.logic.parser.CliSyntax.PREFIX_TRANSLATED_WORD_LANGUAGE;
 
-import java.util.Date;
 
 import seedu.flashlingo.commons.util.ToStringBuilder;
 import seedu.flashlingo.logic.commands.exceptions.CommandException;
@@ -64,7 +63,7 @@ public class AddCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         try {
-            this.toAdd = new FlashCard(original, translated, new Date(), new ProficiencyLevel(1));
+            this.toAdd = new FlashCard(original, translated, model.getClock().millis(), new ProficiencyLevel(1));
         } catch (IllegalArgumentException iae) {
             throw new CommandException(iae.getMessage());
         }
@@ -0,0 +1,20 @@
+package seedu.flashlingo.logic.commands;
+
+import seedu.flashlingo.logic.BatchResult;
+import seedu.flashlingo.logic.commands.exceptions.CommandException;
+
+/**
+ * Runs lines of commands as one batch, for commands that run other commands.
+ */
+@FunctionalInterface
+public interface BatchRunner {
+    /**
+     * Executes the commands in {@code commandLines} as one batch.
+     *
+     * @param commandLines The commands, one per line, which are read once.
+     * @param isAtomic Whether to roll back the whole batch if any line fails.
+     * @return the result of the batch, with the errors of the lines that failed.
+     * @throws CommandException If the batch cannot be run, or its changes cannot be saved.
+     */
+    BatchResult run(Iterable<String> commandLines, boolean isAtomic) throws CommandException;
+}
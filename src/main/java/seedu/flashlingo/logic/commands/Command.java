@@ -16,4 +16,35 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command, running any commands it contains as a batch through {@code batchRunner}, and returns
+     * the result message. By default, the command contains no other commands and ignores {@code batchRunner}.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param batchRunner {@code BatchRunner} which runs the commands this command contains.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, BatchRunner batchRunner) throws CommandException {
+        return execute(model);
+    }
+
+    /**
+     * Returns true if this command may modify the Flashlingo data or the user prefs, in which case
+     * any changes are written to storage after it is executed.
+     * Commands that only change what is displayed should override this to return false.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
+    /**
+     * Returns true if this command can be run as part of a batch, which may be rolled back.
+     * Commands that start review sessions, or that act on the app window rather than on the data,
+     * should override this to return false.
+     */
+    public boolean isBatchable() {
+        return true;
+    }
+
 }
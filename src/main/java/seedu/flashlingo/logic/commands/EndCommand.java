@@ -23,6 +23,11 @@ public class EndCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
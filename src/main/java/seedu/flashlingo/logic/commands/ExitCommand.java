@@ -14,4 +14,14 @@ public class ExitCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true, false);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean isBatchable() {
+        return false;
+    }
 }
@@ -14,10 +14,14 @@ public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_MARKER = "~";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all flashcards whose words contain any of "
             + "the specified keywords and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " shark";
+            + "Start the keywords with " + FUZZY_MARKER + " to find words spelt like them, allowing for typos.\n"
+            + "Parameters: [" + FUZZY_MARKER + "]KEYWORD [, MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " shark\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_MARKER + "shrak";
 
     /**
      * The predicate used to filter the flash card list with specified keywords.
@@ -30,12 +34,17 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredFlashCardList(predicate);
+        model.findFlashCards(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_FLASHCARDS_LISTED_OVERVIEW,
                         model.getFilteredFlashCardList().size()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,60 @@
+package seedu.flashlingo.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.flashlingo.commons.util.ToStringBuilder;
+import seedu.flashlingo.logic.Messages;
+import seedu.flashlingo.model.Model;
+import seedu.flashlingo.model.flashcard.WordSimilarToKeywordsPredicate;
+
+/**
+ * Finds and lists all flash cards in flashlingo whose words are spelt like any of the argument keywords,
+ * allowing for a few typos. Entered as {@code find ~KEYWORD...}.
+ */
+public class FuzzyFindCommand extends Command {
+
+    /**
+     * The predicate used to filter the flash card list with specified keywords.
+     */
+    private final WordSimilarToKeywordsPredicate predicate;
+
+    public FuzzyFindCommand(WordSimilarToKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.findSimilarFlashCards(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_FLASHCARDS_LISTED_OVERVIEW,
+                        model.getFilteredFlashCardList().size()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindCommand)) {
+            return false;
+        }
+
+        FuzzyFindCommand otherFuzzyFindCommand = (FuzzyFindCommand) other;
+        return predicate.equals(otherFuzzyFindCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
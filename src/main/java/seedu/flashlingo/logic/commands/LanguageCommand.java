@@ -30,12 +30,17 @@ public class LanguageCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredFlashCardList(predicate);
+        model.findFlashCardsInLanguage(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_FLASHCARDS_LISTED_OVERVIEW,
                         model.getFilteredFlashCardList().size()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -21,4 +21,9 @@ public class ListCommand extends Command {
         model.updateFilteredFlashCardList(PREDICATE_SHOW_ALL_FLASHCARDS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -4,34 +4,51 @@ import static java.util.Objects.requireNonNull;
 import static seedu.flashlingo.logic.Messages.MESSAGE_OPEN_FILE_FAIL;
 import static seedu.flashlingo.logic.Messages.MESSAGE_READ_FILE_FAIL;
 
-import java.io.FileInputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Date;
-
-import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+import seedu.flashlingo.commons.exceptions.DataLoadingException;
 import seedu.flashlingo.commons.util.ToStringBuilder;
+import seedu.flashlingo.commons.util.XlsxUtil;
 import seedu.flashlingo.logic.commands.exceptions.CommandException;
 import seedu.flashlingo.model.Model;
 import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.model.flashcard.FlashCardKey;
 import seedu.flashlingo.model.flashcard.ProficiencyLevel;
+import seedu.flashlingo.model.flashcard.ReviewLoadBalancer;
 import seedu.flashlingo.model.flashcard.words.OriginalWord;
 import seedu.flashlingo.model.flashcard.words.TranslatedWord;
 
 /**
  * Loads a xlsx file to add flash cards to Flashlingo.
+ * The file is read one row at a time and its cards are added in batches, so large files do not have to fit in memory.
+ * Rows that cannot be loaded are skipped and reported instead of failing the whole load.
+ * If the file stops being readable part way, the cards read before are kept and the result says where it stopped.
  */
 public class LoadCommand extends Command {
     public static final String COMMAND_WORD = "load";
     public static final String MESSAGE_SUCCESS = "You have successfully loaded file: ";
+    public static final String MESSAGE_NOTHING_LOADED = "No flash cards were loaded from file: ";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Loads the xlsx file from specified path.\n"
             + "Example: " + COMMAND_WORD + " words.xlsx";
     public static final String MESSAGE_DUPLICATE_FLASHCARD = " flash card already exists!";
     public static final String MESSAGE_EMPTY_WORDS = "Word/translation cannot be empty!";
+    public static final String MESSAGE_SKIPPED_ROWS = "\nSkipped %d row(s):";
+    public static final String MESSAGE_ROW_ERROR = "\nRow %d: %s";
+    public static final String MESSAGE_MORE_ROW_ERRORS = "\n...and %d more";
+    public static final String MESSAGE_STOPPED_READING = "\nThe rest of the file could not be read, "
+            + "so loading stopped after row %d.";
+    /** Number of flash cards added to the model at a time. */
+    public static final int BATCH_SIZE = 1000;
+    /** Number of skipped rows whose errors are listed in the result. */
+    public static final int MAX_REPORTED_ROW_ERRORS = 10;
+    private static final int COLUMN_COUNT = 2;
     public final String fileName;
 
     public LoadCommand(String fileName) {
@@ -42,71 +59,41 @@ public class LoadCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // Tries to access and open the file.
-        FileInputStream fis;
+        // Checks that the file can be accessed.
+        Path filePath;
         try {
-            fis = new FileInputStream(fileName);
-        } catch (Exception e) {
+            filePath = Paths.get(fileName);
+        } catch (InvalidPathException e) {
             throw new CommandException(MESSAGE_OPEN_FILE_FAIL);
         }
-
-        // Tries to read the file.
-        ArrayList<FlashCard> flashCards;
-        try {
-            flashCards = readFromExcel(fis);
-        } catch (CommandException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new CommandException(MESSAGE_READ_FILE_FAIL);
-        }
-
-        addFlashCardsToModel(flashCards, model);
-
-        return new CommandResult(MESSAGE_SUCCESS + fileName, false, false, false);
-    }
-
-    private ArrayList<FlashCard> readFromExcel(FileInputStream fis) throws Exception {
-        ArrayList<FlashCard> flashCards = new ArrayList<>();
-
-        Workbook workbook = new XSSFWorkbook(fis);
-        Sheet sheet = workbook.getSheetAt(0);
-        DataFormatter formatter = new DataFormatter();
-        for (Row row : sheet) {
-            String originalWordValue = formatter.formatCellValue(row.getCell(0));
-            String translatedWordValue = formatter.formatCellValue(row.getCell(1));
-            ArrayList<String> validWords = trimAndVerifyWords(originalWordValue, translatedWordValue);
-            String originalWord = validWords.get(0);
-            String translatedWord = validWords.get(1);
-            FlashCard flashCard = new FlashCard(new OriginalWord(originalWord, ""),
-                    new TranslatedWord(translatedWord, ""), new Date(), new ProficiencyLevel(1));
-            flashCards.add(flashCard);
+        if (!Files.isRegularFile(filePath) || !Files.isReadable(filePath)) {
+            throw new CommandException(MESSAGE_OPEN_FILE_FAIL);
         }
 
-        return flashCards;
-    }
-
-    private ArrayList<String> trimAndVerifyWords(String originalWordValue, String translatedWordValue)
-            throws CommandException {
-        ArrayList<String> validWords = new ArrayList<>();
-        originalWordValue = originalWordValue.trim();
-        translatedWordValue = translatedWordValue.trim();
-        if (originalWordValue.equals("") || translatedWordValue.equals("")) {
-            throw new CommandException(MESSAGE_EMPTY_WORDS);
+        // Reads the file, adding the cards of every complete batch as it goes.
+        FlashCardImport flashCardImport = new FlashCardImport(model);
+        boolean isReadFailed = false;
+        try {
+            XlsxUtil.readFirstSheet(filePath, COLUMN_COUNT, flashCardImport::importRow);
+        } catch (DataLoadingException e) {
+            isReadFailed = true;
         }
-        validWords.add(originalWordValue);
-        validWords.add(translatedWordValue);
-        return validWords;
-    }
+        flashCardImport.addBatch();
 
-    private void addFlashCardsToModel(ArrayList<FlashCard> flashCards, Model model) throws CommandException {
-        // Checks for duplicated flash cards with the app.
-        for (FlashCard flashCard : flashCards) {
-            if (model.hasFlashCard(flashCard)) {
-                throw new CommandException(flashCard.getOriginalWord().getWord() + "-"
-                        + flashCard.getTranslatedWord().getWord() + MESSAGE_DUPLICATE_FLASHCARD);
+        // Only fails if the model is unchanged, as the changes of a failed command are not saved.
+        if (flashCardImport.getAddedCount() == 0) {
+            if (isReadFailed) {
+                throw new CommandException(MESSAGE_READ_FILE_FAIL);
+            }
+            if (flashCardImport.getRowErrorCount() > 0) {
+                throw new CommandException(MESSAGE_NOTHING_LOADED + fileName + flashCardImport.getRowErrorReport());
             }
         }
-        model.addFlashCards(flashCards);
+        String stoppedReport = isReadFailed
+                ? String.format(MESSAGE_STOPPED_READING, flashCardImport.getLastRowNumber())
+                : "";
+        return new CommandResult(MESSAGE_SUCCESS + fileName + flashCardImport.getRowErrorReport() + stoppedReport,
+                false, false, false);
     }
 
     @Override
@@ -128,4 +115,110 @@ public class LoadCommand extends Command {
         return new ToStringBuilder(this)
                 .toString();
     }
+
+    /**
+     * Turns the rows of a file into flash cards and adds them to the model in batches of {@link #BATCH_SIZE}.
+     */
+    private static class FlashCardImport {
+        private final Model model;
+        // The cards of the file are due from the time it is loaded, spread over days under the daily review cap
+        private final long now;
+        private final ReviewLoadBalancer loadBalancer;
+        private final ArrayList<FlashCard> batch = new ArrayList<>();
+        // Keys of the cards in the batch, which the model does not know about yet
+        private final Set<FlashCardKey> batchKeys = new HashSet<>();
+        private final List<String> reportedRowErrors = new ArrayList<>();
+        private int rowErrorCount;
+        private int addedCount;
+        private int lastRowNumber;
+
+        FlashCardImport(Model model) {
+            this.model = model;
+            this.now = model.getClock().millis();
+            this.loadBalancer = model.createReviewLoadBalancer();
+        }
+
+        /**
+         * Validates the row numbered {@code rowNumber} and queues its flash card, skipping blank rows.
+         */
+        void importRow(int rowNumber, String[] cells) {
+            lastRowNumber = rowNumber;
+            String originalWord = cells[0].trim();
+            String translatedWord = cells[1].trim();
+            if (originalWord.isEmpty() && translatedWord.isEmpty()) {
+                return;
+            }
+            if (originalWord.isEmpty() || translatedWord.isEmpty()) {
+                addRowError(rowNumber, MESSAGE_EMPTY_WORDS);
+                return;
+            }
+
+            FlashCard flashCard;
+            try {
+                flashCard = new FlashCard(new OriginalWord(originalWord, ""),
+                        new TranslatedWord(translatedWord, ""), now, new ProficiencyLevel(1));
+            } catch (IllegalArgumentException e) {
+                addRowError(rowNumber, e.getMessage());
+                return;
+            }
+            if (model.hasFlashCard(flashCard) || !batchKeys.add(flashCard.getKey())) {
+                addRowError(rowNumber, originalWord + "-" + translatedWord + MESSAGE_DUPLICATE_FLASHCARD);
+                return;
+            }
+            flashCard.updateReviewDate(loadBalancer.scheduleNewCard(now) - now, now);
+            batch.add(flashCard);
+            if (batch.size() >= BATCH_SIZE) {
+                addBatch();
+            }
+        }
+
+        /**
+         * Adds the queued flash cards to the model.
+         */
+        void addBatch() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            addedCount += model.addFlashCards(batch).size();
+            batch.clear();
+            batchKeys.clear();
+        }
+
+        int getAddedCount() {
+            return addedCount;
+        }
+
+        int getRowErrorCount() {
+            return rowErrorCount;
+        }
+
+        /**
+         * Returns the number of the last row read, or 0 if no row was read.
+         */
+        int getLastRowNumber() {
+            return lastRowNumber;
+        }
+
+        /**
+         * Returns the errors of the skipped rows, or an empty string if no row was skipped.
+         */
+        String getRowErrorReport() {
+            if (rowErrorCount == 0) {
+                return "";
+            }
+            StringBuilder report = new StringBuilder(String.format(MESSAGE_SKIPPED_ROWS, rowErrorCount));
+            reportedRowErrors.forEach(report::append);
+            if (rowErrorCount > reportedRowErrors.size()) {
+                report.append(String.format(MESSAGE_MORE_ROW_ERRORS, rowErrorCount - reportedRowErrors.size()));
+            }
+            return report.toString();
+        }
+
+        private void addRowError(int rowNumber, String message) {
+            rowErrorCount++;
+            if (reportedRowErrors.size() < MAX_REPORTED_ROW_ERRORS) {
+                reportedRowErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumber, message));
+            }
+        }
+    }
 }
@@ -48,6 +48,16 @@ public class RevealCommand extends Command {
         return new CommandResult(MESSAGE_SUCCESS + translatedWord.getWord());
 
     }
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean isBatchable() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -15,23 +15,20 @@ public class ReviewCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Listed all flashcards you need to review";
 
-    /**
-     * The predicate used to filter the flash card which is overdue.
-     */
-    private final WordOverduePredicate predicate;
-
-    public ReviewCommand() {
-        this.predicate = new WordOverduePredicate();
-    }
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredFlashCardList(predicate);
+        model.updateFilteredFlashCardList(new WordOverduePredicate(model.getClock().millis()));
         return new CommandResult(MESSAGE_SUCCESS + "\n"
                 + String.format(Messages.MESSAGE_FLASHCARDS_LISTED_OVERVIEW,
                 model.getFilteredFlashCardList().size()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
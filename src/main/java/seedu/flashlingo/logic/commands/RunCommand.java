@@ -0,0 +1,121 @@
+package seedu.flashlingo.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.flashlingo.logic.Messages.MESSAGE_OPEN_FILE_FAIL;
+import static seedu.flashlingo.logic.Messages.MESSAGE_READ_FILE_FAIL;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import seedu.flashlingo.commons.util.ToStringBuilder;
+import seedu.flashlingo.logic.BatchExecutor;
+import seedu.flashlingo.logic.BatchResult;
+import seedu.flashlingo.logic.commands.exceptions.CommandException;
+import seedu.flashlingo.logic.parser.FlashlingoParser;
+import seedu.flashlingo.model.Model;
+
+/**
+ * Runs the commands in a text file, one per line, as a single batch.
+ * If any line fails, none of the commands take effect, and the failed lines are reported.
+ * The batch is run by the {@link BatchRunner} given to the command, if any, which the app logic uses to save the
+ * changes of the batch once.
+ */
+public class RunCommand extends Command {
+    public static final String COMMAND_WORD = "run";
+    public static final String MESSAGE_SUCCESS = "Ran %d command(s) from file: %s";
+    public static final String MESSAGE_ROLLED_BACK = "No changes were made, as %d line(s) of file %s failed:";
+    public static final String MESSAGE_LINE_ERROR = "\nLine %d: %s";
+    public static final String MESSAGE_MORE_LINE_ERRORS = "\n...and %d more";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in the text file from specified "
+            + "path, one per line. Blank lines and lines starting with # are skipped.\n"
+            + "Example: " + COMMAND_WORD + " commands.txt";
+    /** Number of failed lines whose errors are listed in the result. */
+    public static final int MAX_REPORTED_LINE_ERRORS = 10;
+    public final String fileName;
+
+    public RunCommand(String fileName) {
+        this.fileName = fileName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        BatchExecutor batchExecutor = new BatchExecutor(new FlashlingoParser());
+        return execute(model, (commandLines, isAtomic) -> batchExecutor.execute(model, commandLines, isAtomic));
+    }
+
+    @Override
+    public CommandResult execute(Model model, BatchRunner batchRunner) throws CommandException {
+        requireNonNull(batchRunner);
+
+        // Checks that the file can be accessed.
+        Path filePath;
+        try {
+            filePath = Paths.get(fileName);
+        } catch (InvalidPathException e) {
+            throw new CommandException(MESSAGE_OPEN_FILE_FAIL);
+        }
+        if (!Files.isRegularFile(filePath) || !Files.isReadable(filePath)) {
+            throw new CommandException(MESSAGE_OPEN_FILE_FAIL);
+        }
+
+        // Streams the lines of the file through one batch, rolling it back if any line fails.
+        BatchResult batchResult;
+        try (Stream<String> lines = Files.lines(filePath, StandardCharsets.UTF_8)) {
+            batchResult = batchRunner.run(lines::iterator, true);
+        } catch (IOException | UncheckedIOException e) {
+            throw new CommandException(MESSAGE_READ_FILE_FAIL);
+        }
+
+        if (!batchResult.isCommitted()) {
+            throw new CommandException(getLineErrorReport(batchResult.getLineErrors()));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, batchResult.getExecutedCount(), fileName));
+    }
+
+    private String getLineErrorReport(List<BatchResult.LineError> lineErrors) {
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_ROLLED_BACK, lineErrors.size(), fileName));
+        lineErrors.stream()
+                .limit(MAX_REPORTED_LINE_ERRORS)
+                .forEach(lineError -> report.append(String.format(MESSAGE_LINE_ERROR,
+                        lineError.getLineNumber(), lineError.getMessage())));
+        if (lineErrors.size() > MAX_REPORTED_LINE_ERRORS) {
+            report.append(String.format(MESSAGE_MORE_LINE_ERRORS, lineErrors.size() - MAX_REPORTED_LINE_ERRORS));
+        }
+        return report.toString();
+    }
+
+    @Override
+    public boolean isBatchable() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return fileName.equals(otherRunCommand.fileName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("fileName", fileName)
+                .toString();
+    }
+}
@@ -26,6 +26,16 @@ public class StartCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean isBatchable() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,7 +2,11 @@ package seedu.flashlingo.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
+
 import seedu.flashlingo.model.Model;
+import seedu.flashlingo.model.flashcard.FlashCardStatistics;
+import seedu.flashlingo.model.flashcard.FlashCardStatistics.LanguageStatistics;
 
 /**
  * Indicates user wants to display the learning statistics
@@ -17,6 +21,15 @@ public class StatsCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Great work fellow learner! \nTotal number of flash cards: %d \n"
             + "Total number of flash cards remembered: %d\nOverall success rate: %f%%";
+    public static final String MESSAGE_OVERDUE = "\nFlash cards to review now: %d";
+    public static final String MESSAGE_FORECAST = "\nReviews due over the next %d days:";
+    public static final String MESSAGE_FORECAST_DAY = " %d";
+    /** Number of days, starting from today, whose reviews are forecast. */
+    public static final int FORECAST_DAYS = 7;
+    public static final String MESSAGE_LEVELS = "\nFlash cards per level:";
+    public static final String MESSAGE_LEVEL = " %d: %d";
+    public static final String MESSAGE_LANGUAGES = "\nSuccess rate per language:";
+    public static final String MESSAGE_LANGUAGE = "\n  %s: %d of %d remembered (%.2f%%)";
 
     /**
      * Executes the functioning for this command
@@ -26,17 +39,48 @@ public class StatsCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        int numberOfFlashCards = model.getNumberOfFlashCards();
-        double numberOfRememberedWords = model.getNumberOfRememberedWords();
-        double successRate = 0;
-        boolean isNonNegativeNumberOfWords = numberOfRememberedWords < 0;
-        boolean isNonZeroNonNegativeNumberOfFlashCards = numberOfFlashCards <= 0;
-        if (!(isNonNegativeNumberOfWords || isNonZeroNonNegativeNumberOfFlashCards)) {
-            successRate = (numberOfRememberedWords / numberOfFlashCards) * 100;
+        FlashCardStatistics statistics = model.getFlashCardStatistics();
+        int numberOfFlashCards = statistics.getTotalCount();
+        int numberOfRememberedWords = statistics.getRememberedCount();
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, numberOfFlashCards,
+                numberOfRememberedWords, getSuccessRate(numberOfRememberedWords, numberOfFlashCards)));
+        long now = model.getClock().millis();
+        message.append(String.format(MESSAGE_OVERDUE, statistics.getOverdueCount(now)));
+        message.append(String.format(MESSAGE_FORECAST, FORECAST_DAYS));
+        for (int dueCount : statistics.getDueForecast(now, FORECAST_DAYS)) {
+            message.append(String.format(MESSAGE_FORECAST_DAY, dueCount));
+        }
+        if (!statistics.getLevelCounts().isEmpty()) {
+            message.append(MESSAGE_LEVELS);
+            for (Map.Entry<Integer, Integer> levelCount : statistics.getLevelCounts().entrySet()) {
+                message.append(String.format(MESSAGE_LEVEL, levelCount.getKey(), levelCount.getValue()));
+            }
         }
+        if (!statistics.getLanguageStatistics().isEmpty()) {
+            message.append(MESSAGE_LANGUAGES);
+            for (LanguageStatistics language : statistics.getLanguageStatistics()) {
+                message.append(String.format(MESSAGE_LANGUAGE, language.getLanguage(),
+                        language.getRememberedCount(), language.getCount(),
+                        getSuccessRate(language.getRememberedCount(), language.getCount())));
+            }
+        }
+        return new CommandResult(message.toString());
+    }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, numberOfFlashCards,
-                (int) numberOfRememberedWords, successRate));
+    /**
+     * Returns the percentage of {@code total} that {@code remembered} makes up, or 0 if there is nothing to count.
+     */
+    private static double getSuccessRate(int remembered, int total) {
+        if (remembered < 0 || total <= 0) {
+            return 0;
+        }
+        return ((double) remembered / total) * 100;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
     }
 
     /**
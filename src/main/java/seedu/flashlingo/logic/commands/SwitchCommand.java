@@ -23,6 +23,11 @@ public class SwitchCommand extends Command {
         return new CommandResult(MESSAGE_SUCCESS + currentTheme + " theme!", false, false, true);
     }
 
+    @Override
+    public boolean isBatchable() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
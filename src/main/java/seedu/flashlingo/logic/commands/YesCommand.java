@@ -1,13 +1,11 @@
 package seedu.flashlingo.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.flashlingo.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
 
 import seedu.flashlingo.commons.util.ToStringBuilder;
 import seedu.flashlingo.logic.commands.exceptions.CommandException;
 import seedu.flashlingo.model.Model;
 import seedu.flashlingo.model.flashcard.FlashCard;
-import seedu.flashlingo.session.SessionManager;
 
 /**
  * Indicates user has memorized the word.
@@ -30,16 +28,12 @@ public class YesCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         FlashCard response = model.nextReviewWord();
-        response.updateLevel(true);
-        response.recallFlashCard();
+        model.updateFlashCardLevel(response, true);
         // Deals with the case where there's no more words to review
-        if (!model.hasNextRound()) {
-            SessionManager.getInstance().setSession(false);
-            model.updateFilteredFlashCardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        if (!model.moveToNextReviewWord(false)) {
             return new CommandResult(MESSAGE_SUCCESS + "\nYou have no more words to review!");
         }
         // Deals with the case where there's more words to review
-        model.nextReviewWord();
         return new CommandResult(MESSAGE_SUCCESS + "\nThe next word is: ");
     }
 
@@ -18,15 +18,16 @@ import seedu.flashlingo.model.flashcard.words.TranslatedWord;
  * Parses input arguments and creates a new AddCommand object.
  */
 public class AddCommandParser implements Parser<AddCommand> {
+    private final ArgumentTokenizer tokenizer = new ArgumentTokenizer(PREFIX_ORIGINAL_WORD,
+            PREFIX_ORIGINAL_WORD_LANGUAGE, PREFIX_TRANSLATED_WORD, PREFIX_TRANSLATED_WORD_LANGUAGE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, PREFIX_ORIGINAL_WORD, PREFIX_ORIGINAL_WORD_LANGUAGE,
-                    PREFIX_TRANSLATED_WORD, PREFIX_TRANSLATED_WORD_LANGUAGE);
+        ArgumentMultimap argMultimap = tokenizer.scan(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_ORIGINAL_WORD, PREFIX_TRANSLATED_WORD)
             || !argMultimap.getPreamble().isEmpty()) {
@@ -1,9 +1,8 @@
 package seedu.flashlingo.logic.parser;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,136 +11,126 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * 4. A prefix is only recognized after a space. If several prefixes start at the same place, the longest is used.<br>
+ * The prefixes are compiled into a trie when the tokenizer is created, so that a tokenizer kept by a parser
+ * recognizes all of them in a single left-to-right sweep of each arguments string.
  */
 public class ArgumentTokenizer {
 
-    /**
-     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
-     * respective argument values. Only the given prefixes will be recognized in the arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to tokenize the arguments string with
-     * @return           ArgumentMultimap object that maps prefixes to their arguments
-     */
-    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
+    private static final Prefix PREAMBLE = new Prefix("");
 
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
+    private final PrefixTrieNode prefixTrie = new PrefixTrieNode();
 
     /**
-     * {@see findAllPrefixPositions}
+     * Creates a tokenizer that recognizes only the given prefixes.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+    public ArgumentTokenizer(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            requireNonNull(prefix);
+            if (!prefix.getPrefix().isEmpty()) {
+                prefixTrie.add(prefix);
+            }
         }
-
-        return positions;
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
+     * respective argument values. Only the given prefixes will be recognized in the arguments string.
      *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @param prefixes   Prefixes to tokenize the arguments string with
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+        return new ArgumentTokenizer(prefixes).scan(argsString);
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
+     * Tokenizes an arguments string in one sweep and returns an {@code ArgumentMultimap} object that maps the
+     * prefixes of this tokenizer to their respective argument values.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    public ArgumentMultimap scan(String argsString) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+        int position = 1; // a prefix must come after a space, so none can start at 0
+        while (position < argsString.length()) {
+            PrefixTrieNode match = argsString.charAt(position - 1) == ' '
+                    ? prefixTrie.findLongestMatch(argsString, position)
+                    : null;
+            if (match == null) {
+                position++;
+                continue;
+            }
+            argMultimap.put(currentPrefix, argsString.substring(valueStart, position).trim());
+            currentPrefix = match.prefix;
+            valueStart = position + match.depth;
+            position = valueStart;
         }
-
+        argMultimap.put(currentPrefix, argsString.substring(valueStart).trim());
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * A node of a trie of prefixes, reached by the first {@code depth} characters of the prefixes below it.
+     * Nodes have few children, so they are kept in small arrays searched in order.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
+    private static class PrefixTrieNode {
+        private final int depth;
+        private char[] keys = new char[0];
+        private PrefixTrieNode[] children = new PrefixTrieNode[0];
+        // The prefix ending at this node, if any
+        private Prefix prefix;
+
+        PrefixTrieNode() {
+            this(0);
+        }
 
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
+        private PrefixTrieNode(int depth) {
+            this.depth = depth;
+        }
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        void add(Prefix toAdd) {
+            PrefixTrieNode node = this;
+            for (char c : toAdd.getPrefix().toCharArray()) {
+                PrefixTrieNode child = node.getChild(c);
+                if (child == null) {
+                    child = new PrefixTrieNode(node.depth + 1);
+                    node.keys = Arrays.copyOf(node.keys, node.keys.length + 1);
+                    node.children = Arrays.copyOf(node.children, node.children.length + 1);
+                    node.keys[node.keys.length - 1] = c;
+                    node.children[node.children.length - 1] = child;
+                }
+                node = child;
+            }
+            node.prefix = toAdd;
         }
 
-        int getStartPosition() {
-            return startPosition;
+        /**
+         * Returns the node of the longest prefix that starts at {@code start} in {@code s}, or null if there is none.
+         */
+        PrefixTrieNode findLongestMatch(String s, int start) {
+            PrefixTrieNode longestMatch = null;
+            PrefixTrieNode node = this;
+            for (int i = start; i < s.length() && node != null; i++) {
+                node = node.getChild(s.charAt(i));
+                if (node != null && node.prefix != null) {
+                    longestMatch = node;
+                }
+            }
+            return longestMatch;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        private PrefixTrieNode getChild(char c) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
         }
     }
 
@@ -21,6 +21,7 @@ import seedu.flashlingo.logic.parser.exceptions.ParseException;
 public class EditCommandParser implements Parser<EditCommand> {
     private final Prefix[] prefixes = new Prefix[] {
         PREFIX_ORIGINAL_WORD, PREFIX_ORIGINAL_WORD_LANGUAGE, PREFIX_TRANSLATED_WORD, PREFIX_TRANSLATED_WORD_LANGUAGE};
+    private final ArgumentTokenizer tokenizer = new ArgumentTokenizer(prefixes);
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
@@ -29,8 +30,7 @@ public class EditCommandParser implements Parser<EditCommand> {
      */
     public EditCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, prefixes);
+        ArgumentMultimap argMultimap = tokenizer.scan(args);
 
         Index index;
 
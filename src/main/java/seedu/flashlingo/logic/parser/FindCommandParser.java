@@ -4,23 +4,31 @@ import static seedu.flashlingo.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
 
+import seedu.flashlingo.logic.commands.Command;
 import seedu.flashlingo.logic.commands.FindCommand;
+import seedu.flashlingo.logic.commands.FuzzyFindCommand;
 import seedu.flashlingo.logic.parser.exceptions.ParseException;
 import seedu.flashlingo.model.flashcard.WordContainsKeywordsPredicate;
+import seedu.flashlingo.model.flashcard.WordSimilarToKeywordsPredicate;
 
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object, or a FuzzyFindCommand object if the keywords
+ * start with {@link FindCommand#FUZZY_MARKER}.
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand or FuzzyFindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = parseWord(args);
+        boolean isFuzzy = trimmedArgs.startsWith(FindCommand.FUZZY_MARKER);
+        if (isFuzzy) {
+            trimmedArgs = parseWord(trimmedArgs.substring(FindCommand.FUZZY_MARKER.length()));
+        }
 
         String[] nameKeywords = trimmedArgs.split(",");
 
@@ -33,8 +41,9 @@ public class FindCommandParser implements Parser<FindCommand> {
             nameKeywords[i] = parseWord(nameKeywords[i]);
         }
 
-        System.out.println(Arrays.toString(nameKeywords));
-
+        if (isFuzzy) {
+            return new FuzzyFindCommand(new WordSimilarToKeywordsPredicate(Arrays.asList(nameKeywords)));
+        }
         return new FindCommand(new WordContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
@@ -5,9 +5,10 @@ import static seedu.flashlingo.logic.Messages.MESSAGE_IN_REVIEW_SESSION;
 import static seedu.flashlingo.logic.Messages.MESSAGE_NOT_IN_REVIEW_SESSION;
 import static seedu.flashlingo.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.flashlingo.commons.core.LogsCenter;
 import seedu.flashlingo.logic.commands.AddCommand;
@@ -24,105 +25,133 @@ import seedu.flashlingo.logic.commands.LoadCommand;
 import seedu.flashlingo.logic.commands.NoCommand;
 import seedu.flashlingo.logic.commands.RevealCommand;
 import seedu.flashlingo.logic.commands.ReviewCommand;
+import seedu.flashlingo.logic.commands.RunCommand;
 import seedu.flashlingo.logic.commands.StartCommand;
 import seedu.flashlingo.logic.commands.StatsCommand;
 import seedu.flashlingo.logic.commands.SwitchCommand;
 import seedu.flashlingo.logic.commands.YesCommand;
 import seedu.flashlingo.logic.parser.exceptions.ParseException;
-import seedu.flashlingo.session.SessionManager;
 
 /**
  * Parses user input.
+ * Each command word maps to a parser that is built once and shared, as parsers keep no state between inputs.
+ * Review sessions have their own table, so that the commands of the other mode are rejected with a helpful message.
+ * The parser keeps no session state itself, so one parser can be shared by models in different sessions.
  */
 public class FlashlingoParser {
     //@@author
+    private static final Logger logger = LogsCenter.getLogger(FlashlingoParser.class);
+
+    private static final Map<String, Parser<? extends Command>> COMMAND_PARSERS = createCommandParsers();
+    private static final Map<String, Parser<? extends Command>> REVIEW_SESSION_PARSERS = createReviewSessionParsers();
+    private static final Parser<Command> UNKNOWN_COMMAND_PARSER = rejecting(MESSAGE_UNKNOWN_COMMAND);
+    private static final Parser<Command> IN_REVIEW_SESSION_PARSER = rejecting(MESSAGE_IN_REVIEW_SESSION);
+
     /**
-     * Used for initial separation of command word and args.
+     * Parses user input into command for execution outside a review session.
+     *
+     * @param userInput full user input string
+     * @return the command based on the user input
+     * @throws ParseException if the user input does not conform the expected format
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(FlashlingoParser.class);
-    private static final SessionManager sessionManager = SessionManager.getInstance();
+    public Command parseCommand(String userInput) throws ParseException {
+        return parseCommand(userInput, false);
+    }
+
     /**
      * Parses user input into command for execution.
      *
      * @param userInput full user input string
+     * @param isReviewSession whether the model the command is for is in a review session
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
-    public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+    public Command parseCommand(String userInput, boolean isReviewSession) throws ParseException {
+        // Trims the input and splits off the command word, which ends at the first whitespace
+        int start = 0;
+        int end = userInput.length();
+        while (start < end && userInput.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && userInput.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
+        int commandWordEnd = start;
+        while (commandWordEnd < end && !Character.isWhitespace(userInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = userInput.substring(start, commandWordEnd);
+        final String arguments = userInput.substring(commandWordEnd, end);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-        if (sessionManager.isReviewSession()) {
-            switch (commandWord) {
-            case StartCommand.COMMAND_WORD:
-                throw new ParseException(MESSAGE_IN_REVIEW_SESSION);
-            case EndCommand.COMMAND_WORD:
-                return new EndCommand();
-            case YesCommand.COMMAND_WORD:
-                return new YesCommand();
-            case NoCommand.COMMAND_WORD:
-                return new NoCommand();
-            case ExitCommand.COMMAND_WORD:
-                return new ExitCommand();
-            case RevealCommand.COMMAND_WORD:
-                return new RevealCommandParser().parse(arguments);
-            case SwitchCommand.COMMAND_WORD:
-                return new SwitchCommand();
-            case HelpCommand.COMMAND_WORD:
-                return new HelpCommand();
-            default:
-                logger.finer("This user input caused a ParseException: " + userInput);
-                throw new ParseException(MESSAGE_IN_REVIEW_SESSION);
-            }
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
         }
-        switch (commandWord) {
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-        case NoCommand.COMMAND_WORD:
-            throw new ParseException(MESSAGE_NOT_IN_REVIEW_SESSION);
-        case LanguageCommand.COMMAND_WORD:
-            return new LanguageCommandParser().parse(arguments);
-        case YesCommand.COMMAND_WORD:
-            throw new ParseException(MESSAGE_NOT_IN_REVIEW_SESSION);
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-        case ReviewCommand.COMMAND_WORD:
-            return new ReviewCommand();
-        case StatsCommand.COMMAND_WORD:
-            return new StatsCommand();
-        case StartCommand.COMMAND_WORD:
-            return new StartCommand();
-        case EndCommand.COMMAND_WORD:
-            throw new ParseException(MESSAGE_NOT_IN_REVIEW_SESSION);
-        case SwitchCommand.COMMAND_WORD:
-            return new SwitchCommand();
-        case RevealCommand.COMMAND_WORD:
-            return new RevealCommandParser().parse(arguments);
-        case LoadCommand.COMMAND_WORD:
-            return new LoadCommandParser().parse(arguments);
-        default:
+        Parser<? extends Command> parser = isReviewSession
+                ? REVIEW_SESSION_PARSERS.getOrDefault(commandWord, IN_REVIEW_SESSION_PARSER)
+                : COMMAND_PARSERS.getOrDefault(commandWord, UNKNOWN_COMMAND_PARSER);
+        try {
+            return parser.parse(arguments);
+        } catch (ParseException pe) {
             logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            throw pe;
         }
     }
+
+    private static Map<String, Parser<? extends Command>> createCommandParsers() {
+        Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(NoCommand.COMMAND_WORD, rejecting(MESSAGE_NOT_IN_REVIEW_SESSION));
+        parsers.put(LanguageCommand.COMMAND_WORD, new LanguageCommandParser());
+        parsers.put(YesCommand.COMMAND_WORD, rejecting(MESSAGE_NOT_IN_REVIEW_SESSION));
+        parsers.put(ExitCommand.COMMAND_WORD, returning(new ExitCommand()));
+        parsers.put(HelpCommand.COMMAND_WORD, returning(new HelpCommand()));
+        parsers.put(ListCommand.COMMAND_WORD, returning(new ListCommand()));
+        parsers.put(ReviewCommand.COMMAND_WORD, returning(new ReviewCommand()));
+        parsers.put(StatsCommand.COMMAND_WORD, returning(new StatsCommand()));
+        parsers.put(StartCommand.COMMAND_WORD, returning(new StartCommand()));
+        parsers.put(EndCommand.COMMAND_WORD, rejecting(MESSAGE_NOT_IN_REVIEW_SESSION));
+        parsers.put(SwitchCommand.COMMAND_WORD, returning(new SwitchCommand()));
+        parsers.put(RevealCommand.COMMAND_WORD, new RevealCommandParser());
+        parsers.put(LoadCommand.COMMAND_WORD, new LoadCommandParser());
+        parsers.put(RunCommand.COMMAND_WORD, new RunCommandParser());
+        return parsers;
+    }
+
+    private static Map<String, Parser<? extends Command>> createReviewSessionParsers() {
+        Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+        parsers.put(EndCommand.COMMAND_WORD, returning(new EndCommand()));
+        parsers.put(YesCommand.COMMAND_WORD, returning(new YesCommand()));
+        parsers.put(NoCommand.COMMAND_WORD, returning(new NoCommand()));
+        parsers.put(ExitCommand.COMMAND_WORD, returning(new ExitCommand()));
+        parsers.put(RevealCommand.COMMAND_WORD, new RevealCommandParser());
+        parsers.put(SwitchCommand.COMMAND_WORD, returning(new SwitchCommand()));
+        parsers.put(HelpCommand.COMMAND_WORD, returning(new HelpCommand()));
+        return parsers;
+    }
+
+    /**
+     * Returns a parser that ignores its arguments and returns {@code command}, which must keep no state.
+     */
+    private static Parser<Command> returning(Command command) {
+        return arguments -> command;
+    }
+
+    /**
+     * Returns a parser that rejects any arguments with {@code message}.
+     */
+    private static Parser<Command> rejecting(String message) {
+        return arguments -> {
+            throw new ParseException(message);
+        };
+    }
 }
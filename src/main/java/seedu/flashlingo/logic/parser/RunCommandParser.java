@@ -0,0 +1,22 @@
+package seedu.flashlingo.logic.parser;
+
+import static seedu.flashlingo.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.flashlingo.logic.commands.RunCommand;
+import seedu.flashlingo.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input argument, the file path, and creates a new RunCommand object.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    @Override
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        return new RunCommand(trimmedArgs);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.flashlingo.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.flashlingo.commons.util.ToStringBuilder;
+import seedu.flashlingo.model.flashcard.FlashCard;
+
+/**
+ * Represents a single modification made to the flashcards of a {@link Flashlingo}.
+ * Flashcards are held by reference, so a {@code LEVEL} change always reflects the latest state of its flashcard.
+ */
+public class FlashCardChange {
+
+    /**
+     * Kinds of modification that can be made to a single flashcard.
+     */
+    public enum Type {
+        ADD, EDIT, DELETE, LEVEL
+    }
+
+    private final Type type;
+    private final FlashCard target;
+    private final FlashCard flashCard;
+
+    /**
+     * Creates a change of the given {@code type} on {@code flashCard}.
+     * {@code target} is the flashcard that was replaced and must only be given for an {@code EDIT}.
+     */
+    public FlashCardChange(Type type, FlashCard target, FlashCard flashCard) {
+        requireNonNull(type);
+        requireNonNull(flashCard);
+        if ((type == Type.EDIT) != (target != null)) {
+            throw new IllegalArgumentException("Only an edit has a target flashcard");
+        }
+        this.type = type;
+        this.target = target;
+        this.flashCard = flashCard;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public FlashCard getTarget() {
+        return target;
+    }
+
+    public FlashCard getFlashCard() {
+        return flashCard;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FlashCardChange)) {
+            return false;
+        }
+
+        FlashCardChange otherChange = (FlashCardChange) other;
+        return type == otherChange.type
+                && Objects.equals(target, otherChange.target)
+                && flashCard.equals(otherChange.flashCard);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, target, flashCard);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("target", target)
+                .add("flashCard", flashCard)
+                .toString();
+    }
+}
@@ -3,13 +3,25 @@
 package seedu.flashlingo.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.flashlingo.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.ObservableList;
 import seedu.flashlingo.commons.util.ToStringBuilder;
 import seedu.flashlingo.model.flashcard.FlashCard;
 import seedu.flashlingo.model.flashcard.UniqueFlashCardList;
+import seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithm;
 
 /**
  * Wraps all data at the flashlingo level
@@ -17,7 +29,16 @@ import seedu.flashlingo.model.flashcard.UniqueFlashCardList;
  */
 public class Flashlingo implements ReadOnlyFlashlingo {
 
+    /** Number of most recent changes kept for {@link #getChangesSince(long)}. */
+    public static final int MAX_RECORDED_CHANGES = 1000;
+
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final UniqueFlashCardList flashCards;
+    private long version = lastVersion.incrementAndGet(); // Replaced on every change to the flashcards
+    private final Deque<RecordedChange> recentChanges = new ArrayDeque<>(); // Last one led to current version
+    private FlashlingoSnapshot lastSnapshot; // Latest snapshot taken, which the next one is built from
+    private Transaction transaction; // Open transaction, whose changes can still be rolled back
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,7 +68,14 @@ public class Flashlingo implements ReadOnlyFlashlingo {
      * {@code flashCards} must not contain duplicate flashCards.
      */
     public void setFlashCards(List<FlashCard> flashCards) {
+        if (transaction != null) {
+            List<FlashCard> previousFlashCards = new ArrayList<>(this.flashCards.asUnmodifiableObservableList());
+            transaction.undoActions.push(() -> this.flashCards.setFlashCards(previousFlashCards));
+        }
         this.flashCards.setFlashCards(flashCards);
+        version = lastVersion.incrementAndGet();
+        recentChanges.clear();
+        lastSnapshot = null;
     }
 
     /**
@@ -68,12 +96,36 @@ public class Flashlingo implements ReadOnlyFlashlingo {
         return flashCards.contains(flashCard);
     }
 
+    /**
+     * Returns the flashcards with an original or translated word in {@code language}, ignoring case.
+     * The returned set compares flashcards by reference.
+     */
+    public Set<FlashCard> getFlashCardsInLanguage(String language) {
+        return flashCards.getFlashCardsInLanguage(language);
+    }
+
     /**
      * Adds a flashcard to Flashlingo.
      * The flashcard must not already exist in Flashlingo.
      */
     public void addFlashCard(FlashCard flashCard) {
         flashCards.add(flashCard);
+        recordChange(new FlashCardChange(FlashCardChange.Type.ADD, null, flashCard));
+        recordUndo(() -> flashCards.remove(flashCard));
+    }
+
+    /**
+     * Adds the flashcards in {@code flashCards} that do not already exist in Flashlingo, all at once.
+     *
+     * @return the flashcards that were added.
+     */
+    public List<FlashCard> addFlashCards(List<FlashCard> flashCards) {
+        List<FlashCard> added = this.flashCards.addAll(flashCards);
+        for (FlashCard flashCard : added) {
+            recordChange(new FlashCardChange(FlashCardChange.Type.ADD, null, flashCard));
+            recordUndo(() -> this.flashCards.remove(flashCard));
+        }
+        return added;
     }
 
     /**
@@ -86,6 +138,8 @@ public class Flashlingo implements ReadOnlyFlashlingo {
         requireNonNull(editedFlashCard);
 
         flashCards.setFlashCard(target, editedFlashCard);
+        recordChange(new FlashCardChange(FlashCardChange.Type.EDIT, target, editedFlashCard));
+        recordUndo(() -> flashCards.setFlashCard(editedFlashCard, target));
     }
 
     /**
@@ -93,7 +147,166 @@ public class Flashlingo implements ReadOnlyFlashlingo {
      * {@code key} must exist in Flashlingo.
      */
     public void removeFlashCard(FlashCard key) {
-        flashCards.remove(key);
+        int index = flashCards.remove(key);
+        recordChange(new FlashCardChange(FlashCardChange.Type.DELETE, null, key));
+        recordUndo(() -> flashCards.add(index, key));
+    }
+
+    /**
+     * Updates the proficiency level, review date and remembered state of {@code target} after a review at {@code now},
+     * scheduling its next review with {@code algorithm}.
+     * {@code target} must exist in Flashlingo.
+     */
+    public void updateFlashCardLevel(FlashCard target, boolean isSuccess, long now, SchedulingAlgorithm algorithm) {
+        requireAllNonNull(target, algorithm);
+        if (transaction != null && transaction.reviewedFlashCards.add(target)) {
+            // The flash card is changed in place, so it is replaced by its state before the transaction instead
+            FlashCard previousState = target.copy();
+            transaction.undoActions.push(() -> flashCards.setFlashCard(target, previousState));
+        }
+        target.updateLevel(isSuccess, now, algorithm);
+        if (isSuccess) {
+            target.recallFlashCard();
+        } else {
+            target.forgetFlashCard();
+        }
+        recordChange(new FlashCardChange(FlashCardChange.Type.LEVEL, null, target));
+    }
+
+    //// transaction operations
+
+    /**
+     * Opens a transaction, so that the changes made to the flashcards from now on can be undone together by
+     * {@link #rollBackTransaction()}, until {@link #commitTransaction()} is called.
+     * The changes are still recorded for {@link #getChangesSince(long)} as they are made.
+     *
+     * @throws IllegalStateException if a transaction is already open.
+     */
+    public void beginTransaction() {
+        if (transaction != null) {
+            throw new IllegalStateException("A transaction is already open");
+        }
+        transaction = new Transaction(version, new ArrayList<>(recentChanges), lastSnapshot);
+    }
+
+    /**
+     * Keeps the changes made in the open transaction, and closes it.
+     *
+     * @throws IllegalStateException if no transaction is open.
+     */
+    public void commitTransaction() {
+        if (transaction == null) {
+            throw new IllegalStateException("No transaction is open");
+        }
+        transaction = null;
+    }
+
+    /**
+     * Undoes the changes made in the open transaction, latest first, and closes it.
+     * The flashcards are then the same as when the transaction was opened, so the version and the recorded changes
+     * are restored too, and the changes do not have to be saved.
+     *
+     * @throws IllegalStateException if no transaction is open.
+     */
+    public void rollBackTransaction() {
+        if (transaction == null) {
+            throw new IllegalStateException("No transaction is open");
+        }
+        Transaction rolledBack = transaction;
+        transaction = null;
+        while (!rolledBack.undoActions.isEmpty()) {
+            rolledBack.undoActions.pop().run();
+        }
+        version = rolledBack.version;
+        recentChanges.clear();
+        recentChanges.addAll(rolledBack.recentChanges);
+        lastSnapshot = rolledBack.lastSnapshot;
+    }
+
+    private void recordUndo(Runnable undoAction) {
+        if (transaction != null) {
+            transaction.undoActions.push(undoAction);
+        }
+    }
+
+    private void recordChange(FlashCardChange change) {
+        if (recentChanges.size() == MAX_RECORDED_CHANGES) {
+            recentChanges.removeFirst();
+        }
+        recentChanges.addLast(new RecordedChange(version, change));
+        version = lastVersion.incrementAndGet();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<FlashCardChange>> getChangesSince(long sinceVersion) {
+        return getRecordedChangesSince(sinceVersion).map(recordedChanges -> {
+            List<FlashCardChange> changes = new ArrayList<>(recordedChanges.size());
+            recordedChanges.forEach(recordedChange -> changes.add(recordedChange.change));
+            return changes;
+        });
+    }
+
+    private Optional<List<RecordedChange>> getRecordedChangesSince(long sinceVersion) {
+        List<RecordedChange> changes = new ArrayList<>();
+        if (sinceVersion == version) {
+            return Optional.of(changes);
+        }
+
+        Iterator<RecordedChange> newestFirst = recentChanges.descendingIterator();
+        while (newestFirst.hasNext()) {
+            RecordedChange recordedChange = newestFirst.next();
+            changes.add(recordedChange);
+            if (recordedChange.previousVersion == sinceVersion) {
+                Collections.reverse(changes);
+                return Optional.of(changes);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the flash cards changed since the last snapshot are copied, unless those changes are no longer recorded.
+     */
+    @Override
+    public ReadOnlyFlashlingo snapshot() {
+        Map<FlashCard, FlashCard> copies = new IdentityHashMap<>();
+        Optional<FlashlingoSnapshot> snapshot = lastSnapshot == null
+                ? Optional.empty()
+                : getRecordedChangesSince(lastSnapshot.getVersion()).flatMap(changes -> lastSnapshot.extend(
+                        version, copyFlashCards(changes, copies), MAX_RECORDED_CHANGES));
+        lastSnapshot = snapshot.orElseGet(() -> {
+            List<FlashCard> copiedFlashCards = new ArrayList<>(flashCards.asUnmodifiableObservableList().size());
+            for (FlashCard flashCard : flashCards) {
+                copiedFlashCards.add(copies.computeIfAbsent(flashCard, FlashCard::copy));
+            }
+            return FlashlingoSnapshot.of(version, copiedFlashCards,
+                    copyFlashCards(new ArrayList<>(recentChanges), copies));
+        });
+        return lastSnapshot;
+    }
+
+    /**
+     * Returns {@code changes} with copies of their flash cards, sharing the copies kept in {@code copies}.
+     */
+    private static List<RecordedChange> copyFlashCards(List<RecordedChange> changes,
+                                                       Map<FlashCard, FlashCard> copies) {
+        List<RecordedChange> copiedChanges = new ArrayList<>(changes.size());
+        for (RecordedChange recordedChange : changes) {
+            FlashCardChange change = recordedChange.change;
+            FlashCard target = change.getTarget() == null
+                    ? null
+                    : copies.computeIfAbsent(change.getTarget(), FlashCard::copy);
+            FlashCard flashCard = copies.computeIfAbsent(change.getFlashCard(), FlashCard::copy);
+            copiedChanges.add(new RecordedChange(recordedChange.previousVersion,
+                    new FlashCardChange(change.getType(), target, flashCard)));
+        }
+        return copiedChanges;
     }
 
     //// util methods
@@ -129,4 +342,35 @@ public class Flashlingo implements ReadOnlyFlashlingo {
     public int hashCode() {
         return flashCards.hashCode();
     }
+
+    /**
+     * The state of a {@code Flashlingo} when a transaction was opened, and the actions that undo the changes
+     * made since, latest first.
+     */
+    private static class Transaction {
+        private final long version;
+        private final List<RecordedChange> recentChanges;
+        private final FlashlingoSnapshot lastSnapshot;
+        private final Deque<Runnable> undoActions = new ArrayDeque<>();
+        private final Set<FlashCard> reviewedFlashCards = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private Transaction(long version, List<RecordedChange> recentChanges, FlashlingoSnapshot lastSnapshot) {
+            this.version = version;
+            this.recentChanges = recentChanges;
+            this.lastSnapshot = lastSnapshot;
+        }
+    }
+
+    /**
+     * A change together with the version of the flashcards it was made to.
+     */
+    static class RecordedChange {
+        final long previousVersion;
+        final FlashCardChange change;
+
+        RecordedChange(long previousVersion, FlashCardChange change) {
+            this.previousVersion = previousVersion;
+            this.change = change;
+        }
+    }
 }
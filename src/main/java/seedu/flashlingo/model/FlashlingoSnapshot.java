@@ -0,0 +1,157 @@
+package seedu.flashlingo.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.flashlingo.commons.util.ToStringBuilder;
+import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.model.flashcard.FlashCardKey;
+
+/**
+ * A read-only copy of the flash cards of a {@link Flashlingo} at one version.
+ * A snapshot is either built from copies of all the flash cards, or from an earlier snapshot plus copies of the
+ * flash cards changed since. In the latter case, the full list is only built when it is first read, which may be
+ * on another thread, so that taking the snapshot only costs as much as the changes.
+ * The flash cards of a snapshot are shared with the snapshots built from it, and must not be modified.
+ */
+class FlashlingoSnapshot implements ReadOnlyFlashlingo {
+    private final long version;
+    // Changes since the base, or since the copied flash cards, with copies of their flash cards
+    private final List<Flashlingo.RecordedChange> changes;
+    // Set before the base is cleared, so that a thread which sees no base sees the flash cards
+    private volatile ObservableList<FlashCard> flashCards;
+    private volatile FlashlingoSnapshot base;
+
+    private FlashlingoSnapshot(long version, ObservableList<FlashCard> flashCards, FlashlingoSnapshot base,
+                               List<Flashlingo.RecordedChange> changes) {
+        this.version = version;
+        this.flashCards = flashCards;
+        this.base = base;
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Creates a snapshot at {@code version} of {@code copiedFlashCards}, which were reached by {@code changes}.
+     */
+    static FlashlingoSnapshot of(long version, List<FlashCard> copiedFlashCards,
+                                 List<Flashlingo.RecordedChange> changes) {
+        return new FlashlingoSnapshot(version, FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(copiedFlashCards)), null, changes);
+    }
+
+    /**
+     * Returns a snapshot at {@code version}, which is reached from this snapshot by {@code newChanges}, or
+     * {@code Optional.empty()} if more than {@code maxChanges} changes would have to be kept for it.
+     * Must only be called by the thread that changes the flashlingo this snapshot was taken of.
+     */
+    Optional<FlashlingoSnapshot> extend(long version, List<Flashlingo.RecordedChange> newChanges, int maxChanges) {
+        if (newChanges.isEmpty()) {
+            return Optional.of(this);
+        }
+
+        // Reads the base first, as it is only cleared once the flash cards of this snapshot are built
+        FlashlingoSnapshot currentBase = base;
+        if (currentBase == null || flashCards != null) {
+            return Optional.of(new FlashlingoSnapshot(version, null, this, newChanges));
+        }
+        if (changes.size() + newChanges.size() > maxChanges) {
+            return Optional.empty();
+        }
+        List<Flashlingo.RecordedChange> allChanges = new ArrayList<>(changes);
+        allChanges.addAll(newChanges);
+        return Optional.of(new FlashlingoSnapshot(version, null, currentBase, allChanges));
+    }
+
+    @Override
+    public ObservableList<FlashCard> getFlashCardList() {
+        ObservableList<FlashCard> builtFlashCards = flashCards;
+        return builtFlashCards != null ? builtFlashCards : buildFlashCards();
+    }
+
+    /**
+     * Builds the flash cards of this snapshot by applying its changes to the flash cards of its base, keeping the
+     * flash cards in the order of the flashlingo.
+     */
+    private synchronized ObservableList<FlashCard> buildFlashCards() {
+        if (flashCards != null) {
+            return flashCards;
+        }
+
+        List<FlashCard> cards = new ArrayList<>(base.getFlashCardList());
+        Map<FlashCardKey, Integer> indices = new HashMap<>();
+        for (int i = 0; i < cards.size(); i++) {
+            indices.put(cards.get(i).getKey(), i);
+        }
+        for (Flashlingo.RecordedChange recordedChange : changes) {
+            FlashCardChange change = recordedChange.change;
+            FlashCard flashCard = change.getFlashCard();
+            switch (change.getType()) {
+            case ADD:
+                indices.put(flashCard.getKey(), cards.size());
+                cards.add(flashCard);
+                break;
+            case LEVEL:
+                cards.set(indices.get(flashCard.getKey()), flashCard);
+                break;
+            case EDIT:
+                int index = indices.remove(change.getTarget().getKey());
+                cards.set(index, flashCard);
+                indices.put(flashCard.getKey(), index);
+                break;
+            case DELETE:
+                cards.set(indices.remove(flashCard.getKey()), null);
+                break;
+            default:
+                throw new AssertionError("Unknown change type: " + change.getType());
+            }
+        }
+        cards.removeIf(Objects::isNull);
+
+        flashCards = FXCollections.unmodifiableObservableList(FXCollections.observableList(cards));
+        base = null;
+        return flashCards;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<FlashCardChange>> getChangesSince(long sinceVersion) {
+        List<FlashCardChange> changesSince = new ArrayList<>();
+        if (sinceVersion == version) {
+            return Optional.of(changesSince);
+        }
+
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            Flashlingo.RecordedChange recordedChange = changes.get(i);
+            changesSince.add(recordedChange.change);
+            if (recordedChange.previousVersion == sinceVersion) {
+                Collections.reverse(changesSince);
+                return Optional.of(changesSince);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public ReadOnlyFlashlingo snapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("FlashCards", getFlashCardList())
+                .toString();
+    }
+}
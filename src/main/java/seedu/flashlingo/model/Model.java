@@ -2,13 +2,19 @@
 package seedu.flashlingo.model;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.Clock;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.flashlingo.commons.core.GuiSettings;
 import seedu.flashlingo.logic.commands.exceptions.CommandException;
 import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.model.flashcard.FlashCardStatistics;
+import seedu.flashlingo.model.flashcard.ReviewLoadBalancer;
+import seedu.flashlingo.model.flashcard.WordContainsKeywordsPredicate;
+import seedu.flashlingo.model.flashcard.WordLanguagePredicate;
+import seedu.flashlingo.model.flashcard.WordSimilarToKeywordsPredicate;
 import seedu.flashlingo.model.flashcard.words.TranslatedWord;
 
 /**
@@ -30,6 +36,11 @@ public interface Model {
      */
     ReadOnlyUserPrefs getUserPrefs();
 
+    /**
+     * Returns a counter that changes whenever the user prefs are modified.
+     */
+    long getUserPrefsVersion();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -77,6 +88,11 @@ public interface Model {
      */
     ReadOnlyFlashlingo getFlashlingo();
 
+    /**
+     * Returns a counter that changes whenever the Flashlingo data is modified.
+     */
+    long getFlashlingoVersion();
+
     /**
      * Returns true if a flashcard with the same identity as {@code flashcard} exists in the Flashlingo.
      */
@@ -95,7 +111,13 @@ public interface Model {
     void addFlashCard(FlashCard flashCard);
 
     //@@author A1WAYSD
-    void addFlashCards(ArrayList<FlashCard> flashCards);
+    /**
+     * Adds the given flash cards that do not already exist in the Flashlingo, skipping the others.
+     * The filtered list is updated to show all flash cards once all of them are added.
+     *
+     * @return the flash cards that were added.
+     */
+    List<FlashCard> addFlashCards(List<FlashCard> flashCards);
 
     //@@author WangCheng0116
     /**
@@ -107,7 +129,37 @@ public interface Model {
     void setFlashCard(FlashCard target, FlashCard editedFlashCard);
 
     /**
-     * Returns an unmodifiable view of the filtered flashcard list
+     * Updates the proficiency level of the given flashcard after it has been reviewed.
+     * {@code flashCard} must exist in the Flashlingo.
+     */
+    void updateFlashCardLevel(FlashCard flashCard, boolean isSuccess);
+
+    /**
+     * Opens a transaction on the Flashlingo data, so that the changes made from now on can be undone together
+     * by {@link #rollBackTransaction()}, until {@link #commitTransaction()} is called.
+     *
+     * @throws IllegalStateException if a transaction is already open.
+     */
+    void beginTransaction();
+
+    /**
+     * Keeps the changes made in the open transaction, and closes it.
+     *
+     * @throws IllegalStateException if no transaction is open.
+     */
+    void commitTransaction();
+
+    /**
+     * Undoes the changes made in the open transaction, restores the filter of the filtered flashcard list, and
+     * closes the transaction.
+     *
+     * @throws IllegalStateException if no transaction is open.
+     */
+    void rollBackTransaction();
+
+    /**
+     * Returns an unmodifiable view of the filtered flashcard list, or during a review session, of a list of the
+     * flashcard under review. The returned list changes when a review session starts or ends.
      */
     ObservableList<FlashCard> getFilteredFlashCardList();
 
@@ -119,17 +171,58 @@ public interface Model {
     void updateFilteredFlashCardList(Predicate<FlashCard> predicate);
 
     /**
-     * Evaluates and returns the number of FlashCards
-     * @return Number of FlashCards
+     * Updates the filter of the filtered flashcard list to show the flash cards matching {@code predicate},
+     * which are looked up in an index of their words instead of testing every flash card.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findFlashCards(WordContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered flashcard list to show the flash cards matching {@code predicate},
+     * which are looked up in a BK-tree of their words instead of comparing the keywords with every flash card.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findSimilarFlashCards(WordSimilarToKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered flashcard list to show the flash cards matching {@code predicate},
+     * which are taken from the flash cards indexed under its language instead of testing every flash card.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findFlashCardsInLanguage(WordLanguagePredicate predicate);
+
+    /**
+     * Returns the running statistics over all FlashCards in Flashlingo.
+     */
+    FlashCardStatistics getFlashCardStatistics();
+
+    /**
+     * Returns a new balancer that spreads reviews over days under the daily review cap in the user prefs.
+     */
+    ReviewLoadBalancer createReviewLoadBalancer();
+
+    /**
+     * Returns the clock that the model and commands read the current time from.
      */
-    int getNumberOfFlashCards();
+    Clock getClock();
 
     /**
-     * Evaluated the number of FlashCards remebered in this session
-     * @return Number of FlashCardsRemembered
+     * Returns true if a review session of this model is in progress.
+     * Each model keeps its own session, so sessions of different models do not affect each other.
      */
-    int getNumberOfRememberedWords();
+    boolean isReviewSession();
     FlashCard nextReviewWord() throws CommandException;
+
+    /**
+     * Moves the review session on to its next flash card, putting the current one back in the queue of the session
+     * if {@code isRequeued}, and shows the next flash card. Ends the session if it has no flash card left.
+     *
+     * @return true if there is a flash card left to review.
+     */
+    boolean moveToNextReviewWord(boolean isRequeued);
     void startSession() throws CommandException;
     void endSession();
     boolean hasNextRound();
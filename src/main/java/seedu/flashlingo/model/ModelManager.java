@@ -4,19 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static seedu.flashlingo.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.flashlingo.commons.core.GuiSettings;
 import seedu.flashlingo.commons.core.LogsCenter;
 import seedu.flashlingo.logic.commands.exceptions.CommandException;
 import seedu.flashlingo.model.flashcard.FlashCard;
-import seedu.flashlingo.model.flashcard.NextReviewWordPredicate;
-import seedu.flashlingo.model.flashcard.WordOverduePredicate;
+import seedu.flashlingo.model.flashcard.FlashCardStatistics;
+import seedu.flashlingo.model.flashcard.FuzzyWordIndex;
+import seedu.flashlingo.model.flashcard.ReviewLoadBalancer;
+import seedu.flashlingo.model.flashcard.ReviewScheduler;
+import seedu.flashlingo.model.flashcard.TrigramIndex;
+import seedu.flashlingo.model.flashcard.WordContainsKeywordsPredicate;
+import seedu.flashlingo.model.flashcard.WordLanguagePredicate;
+import seedu.flashlingo.model.flashcard.WordSimilarToKeywordsPredicate;
+import seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithm;
+import seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithms;
 import seedu.flashlingo.model.flashcard.words.TranslatedWord;
+import seedu.flashlingo.session.ReviewSession;
 import seedu.flashlingo.session.SessionManager;
 
 /**
@@ -27,18 +40,42 @@ public class ModelManager implements Model {
     private final Flashlingo flashlingo;
     private final UserPrefs userPrefs;
     private final FilteredList<FlashCard> filteredFlashCards;
+    // Flash card shown during a review session instead of the filtered flash cards
+    private final ObservableList<FlashCard> reviewedFlashCard = FXCollections.observableArrayList();
+    private final ObservableList<FlashCard> unmodifiableReviewedFlashCard =
+            FXCollections.unmodifiableObservableList(reviewedFlashCard);
+    private final ReviewScheduler reviewScheduler;
+    private final FlashCardStatistics statistics;
+    private final TrigramIndex wordIndex;
+    private final FuzzyWordIndex fuzzyWordIndex;
+    private final Clock clock;
+    private final SessionManager sessionManager = new SessionManager();
+    private long userPrefsVersion;
+    private Predicate<? super FlashCard> predicateBeforeTransaction;
 
     /**
-     * Initializes a ModelManager with the given flashlingo and userPrefs.
+     * Initializes a ModelManager with the given flashlingo and userPrefs, which reads the time from the system clock.
      */
     public ModelManager(ReadOnlyFlashlingo flashlingo, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(flashlingo, userPrefs);
+        this(flashlingo, userPrefs, Clock.systemUTC());
+    }
+
+    /**
+     * Initializes a ModelManager with the given flashlingo and userPrefs, which reads the time from {@code clock}.
+     */
+    public ModelManager(ReadOnlyFlashlingo flashlingo, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(flashlingo, userPrefs, clock);
 
         logger.fine("Initializing with Flashlingo: " + flashlingo + " and user prefs " + userPrefs);
 
         this.flashlingo = new Flashlingo(flashlingo);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredFlashCards = new FilteredList<>(this.flashlingo.getFlashCardList());
+        reviewScheduler = new ReviewScheduler(this.flashlingo.getFlashCardList());
+        statistics = new FlashCardStatistics(this.flashlingo.getFlashCardList());
+        wordIndex = new TrigramIndex(this.flashlingo.getFlashCardList());
+        fuzzyWordIndex = new FuzzyWordIndex(this.flashlingo.getFlashCardList());
+        this.clock = clock;
     }
 
     public ModelManager() {
@@ -52,6 +89,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        userPrefsVersion++;
     }
 
     @Override
@@ -59,6 +97,11 @@ public class ModelManager implements Model {
         return userPrefs;
     }
 
+    @Override
+    public long getUserPrefsVersion() {
+        return userPrefsVersion;
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return userPrefs.getGuiSettings();
@@ -68,6 +111,7 @@ public class ModelManager implements Model {
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
         userPrefs.setGuiSettings(guiSettings);
+        userPrefsVersion++;
     }
 
     @Override
@@ -79,6 +123,7 @@ public class ModelManager implements Model {
     public void setFlashlingoFilePath(Path flashlingoFilePath) {
         requireNonNull(flashlingoFilePath);
         userPrefs.setFlashlingoFilePath(flashlingoFilePath);
+        userPrefsVersion++;
     }
 
     @Override
@@ -90,6 +135,7 @@ public class ModelManager implements Model {
     public void setTheme(String theme) {
         requireNonNull(theme);
         userPrefs.setTheme(theme);
+        userPrefsVersion++;
     }
 
     @Override
@@ -113,6 +159,11 @@ public class ModelManager implements Model {
         return flashlingo;
     }
 
+    @Override
+    public long getFlashlingoVersion() {
+        return flashlingo.getVersion();
+    }
+
     @Override
     public boolean hasFlashCard(FlashCard flashCard) {
         requireNonNull(flashCard);
@@ -131,14 +182,10 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void addFlashCards(ArrayList<FlashCard> flashCards) {
-        for (FlashCard flashCard : flashCards) {
-            if (flashlingo.hasFlashCard(flashCard)) {
-                continue;
-            }
-            flashlingo.addFlashCard(flashCard);
-        }
+    public List<FlashCard> addFlashCards(List<FlashCard> flashCards) {
+        List<FlashCard> added = flashlingo.addFlashCards(flashCards);
         updateFilteredFlashCardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        return added;
     }
 
     @Override
@@ -146,34 +193,102 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedFlashCard);
         flashlingo.setFlashCard(target, editedFlashCard);
     }
+
+    @Override
+    public void updateFlashCardLevel(FlashCard flashCard, boolean isSuccess) {
+        requireNonNull(flashCard);
+        long now = clock.millis();
+        SchedulingAlgorithm algorithm = createReviewLoadBalancer().balancing(getSchedulingAlgorithm(), now);
+        flashlingo.updateFlashCardLevel(flashCard, isSuccess, now, algorithm);
+        reviewScheduler.reschedule(flashCard);
+        statistics.update(flashCard);
+    }
+
+    @Override
+    public void beginTransaction() {
+        flashlingo.beginTransaction();
+        predicateBeforeTransaction = filteredFlashCards.getPredicate();
+    }
+
+    @Override
+    public void commitTransaction() {
+        flashlingo.commitTransaction();
+        predicateBeforeTransaction = null;
+    }
+
     @Override
-    public int getNumberOfFlashCards() {
-        return this.filteredFlashCards.size();
+    public void rollBackTransaction() {
+        flashlingo.rollBackTransaction();
+        filteredFlashCards.setPredicate(predicateBeforeTransaction);
+        predicateBeforeTransaction = null;
+    }
+
+    /**
+     * Returns the scheduling algorithm chosen in the user prefs, or the default one if it is unknown.
+     */
+    private SchedulingAlgorithm getSchedulingAlgorithm() {
+        String name = userPrefs.getSchedulingAlgorithm();
+        return SchedulingAlgorithms.forName(name).orElseGet(() -> {
+            logger.warning("Unknown scheduling algorithm " + name + ", using " + SchedulingAlgorithms.DEFAULT_NAME);
+            return SchedulingAlgorithms.getDefault();
+        });
+    }
+
+    @Override
+    public FlashCardStatistics getFlashCardStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public ReviewLoadBalancer createReviewLoadBalancer() {
+        return new ReviewLoadBalancer(statistics, userPrefs.getDailyReviewCap());
+    }
+
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public boolean isReviewSession() {
+        return sessionManager.isReviewSession();
     }
 
     @Override
     public FlashCard nextReviewWord() throws CommandException {
-        updateFilteredFlashCardList(new WordOverduePredicate());
-        if (filteredFlashCards.size() == 0) {
-            SessionManager.getInstance().setSession(false);
-            updateFilteredFlashCardList(unused -> true);
+        Optional<FlashCard> toBeReviewed = sessionManager.getReviewSession()
+                .flatMap(ReviewSession::getCurrentCard);
+        if (!toBeReviewed.isPresent()) {
+            endSession();
             throw new CommandException("There's no FlashCards to review. Well done!");
         }
-        FlashCard toBeReviewed = getFilteredFlashCardList().get(0);
-        Predicate<FlashCard> t = new NextReviewWordPredicate(toBeReviewed);
-        updateFilteredFlashCardList(t);
-        return toBeReviewed;
+        return toBeReviewed.get();
+    }
+
+    @Override
+    public boolean moveToNextReviewWord(boolean isRequeued) {
+        Optional<ReviewSession> reviewSession = sessionManager.getReviewSession();
+        if (isRequeued) { // hides the translation until the flash card comes round again
+            reviewSession.flatMap(ReviewSession::getCurrentCard).ifPresent(flashCard -> flashCard.setIsRevealed(false));
+        }
+        if (!reviewSession.isPresent() || !reviewSession.get().advance(isRequeued)) {
+            endSession();
+            return false;
+        }
+        reviewedFlashCard.set(0, reviewSession.get().getCurrentCard().get());
+        return true;
     }
 
     //=========== Filtered Flashcard List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code FlashCard} backed by the internal list of
-     * {@code versionedFlashlingo}
+     * {@code versionedFlashlingo}, or of the flash card under review during a review session, so that moving on
+     * to the next flash card does not filter the whole list again.
      */
     @Override
     public ObservableList<FlashCard> getFilteredFlashCardList() {
-        return filteredFlashCards;
+        return isReviewSession() ? unmodifiableReviewedFlashCard : filteredFlashCards;
     }
 
     @Override
@@ -183,36 +298,48 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public int getNumberOfRememberedWords() {
-        int numOfFlashCardsRemembered = 0;
-        for (FlashCard flashCard : filteredFlashCards) {
-            if (flashCard.isRecalled()) {
-                numOfFlashCardsRemembered += 1;
-            }
-        }
-        return numOfFlashCardsRemembered;
+    public void findFlashCards(WordContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<FlashCard> matches = wordIndex.findAny(predicate.getKeywords());
+        filteredFlashCards.setPredicate(matches::contains);
     }
+
+    @Override
+    public void findSimilarFlashCards(WordSimilarToKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<FlashCard> matches = fuzzyWordIndex.findAny(predicate.getKeywords());
+        filteredFlashCards.setPredicate(matches::contains);
+    }
+
+    @Override
+    public void findFlashCardsInLanguage(WordLanguagePredicate predicate) {
+        requireNonNull(predicate);
+        Set<FlashCard> matches = flashlingo.getFlashCardsInLanguage(predicate.getLanguage());
+        filteredFlashCards.setPredicate(matches::contains);
+    }
+
     @Override
     public void startSession() throws CommandException {
-        SessionManager.getInstance().setSession(true);
-        updateFilteredFlashCardList(new WordOverduePredicate());
-        if (getFilteredFlashCardList().size() == 0) {
-            SessionManager.getInstance().setSession(false);
-            updateFilteredFlashCardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        int batchSize = userPrefs.getReviewBatchSize() > 0 ? userPrefs.getReviewBatchSize() : Integer.MAX_VALUE;
+        List<FlashCard> batch = reviewScheduler.getOverdue(clock.millis(), batchSize);
+        if (batch.isEmpty()) {
+            endSession();
             throw new CommandException("You have no more words to review!");
         }
-        updateFilteredFlashCardList(new NextReviewWordPredicate(getFilteredFlashCardList().get(0)));
+        ReviewSession reviewSession = new ReviewSession(batch);
+        reviewedFlashCard.setAll(reviewSession.getCurrentCard().get());
+        sessionManager.startReviewSession(reviewSession);
     }
     @Override
     public void endSession() {
-        SessionManager.getInstance().setSession(false);
+        sessionManager.endSession();
+        reviewedFlashCard.clear();
         updateFilteredFlashCardList(PREDICATE_SHOW_ALL_FLASHCARDS);
     }
 
     @Override
     public boolean hasNextRound() {
-        updateFilteredFlashCardList(new WordOverduePredicate());
-        return getFilteredFlashCardList().size() != 0;
+        return reviewScheduler.getNextOverdue(clock.millis()).isPresent();
     }
 
     @Override
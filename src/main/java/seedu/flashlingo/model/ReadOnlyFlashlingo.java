@@ -2,6 +2,9 @@
 //Reused from AB-3 ReadOnlyAddressBook.java with minor modifications
 package seedu.flashlingo.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.flashlingo.model.flashcard.FlashCard;
 
@@ -16,4 +19,23 @@ public interface ReadOnlyFlashlingo {
      */
     ObservableList<FlashCard> getFlashCardList();
 
+    /**
+     * Returns a number identifying the current state of the flash cards, which changes whenever they are modified.
+     * No two states share a version, even across different flashlingos, except a state and its snapshots.
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes that led from version {@code sinceVersion} to the current version, oldest first.
+     * Returns {@code Optional.empty()} if {@code sinceVersion} is not an earlier version of this flashlingo or
+     * those changes are no longer recorded, in which case the full list has to be used instead.
+     */
+    Optional<List<FlashCardChange>> getChangesSince(long sinceVersion);
+
+    /**
+     * Returns a read-only copy of this flashlingo with the same version and changes, which is not affected by later
+     * changes to this flashlingo or its flash cards. The flash cards of the copy must not be modified.
+     */
+    ReadOnlyFlashlingo snapshot();
+
 }
@@ -15,4 +15,10 @@ public interface ReadOnlyUserPrefs {
 
     String getTheme();
 
+    String getSchedulingAlgorithm();
+
+    int getDailyReviewCap();
+
+    int getReviewBatchSize();
+
 }
@@ -7,14 +7,21 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.flashlingo.commons.core.GuiSettings;
+import seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithms;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
+    public static final int DEFAULT_DAILY_REVIEW_CAP = 100;
+    public static final int DEFAULT_REVIEW_BATCH_SIZE = 50;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path flashlingoFilePath = Paths.get("data" , "flashlingo.json");
     private String theme = "Default";
+    private String schedulingAlgorithm = SchedulingAlgorithms.DEFAULT_NAME;
+    private int dailyReviewCap = DEFAULT_DAILY_REVIEW_CAP;
+    private int reviewBatchSize = DEFAULT_REVIEW_BATCH_SIZE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +44,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setFlashlingoFilePath(newUserPrefs.getFlashlingoFilePath());
         setTheme(newUserPrefs.getTheme());
+        setSchedulingAlgorithm(newUserPrefs.getSchedulingAlgorithm());
+        setDailyReviewCap(newUserPrefs.getDailyReviewCap());
+        setReviewBatchSize(newUserPrefs.getReviewBatchSize());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +67,41 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return theme;
     }
 
+    /**
+     * Returns the name of the algorithm that schedules the reviews of flash cards.
+     */
+    public String getSchedulingAlgorithm() {
+        return schedulingAlgorithm;
+    }
+
+    public void setSchedulingAlgorithm(String schedulingAlgorithm) {
+        requireNonNull(schedulingAlgorithm);
+        this.schedulingAlgorithm = schedulingAlgorithm;
+    }
+
+    /**
+     * Returns the number of reviews that new and rescheduled flash cards are spread to stay under on each day,
+     * where 0 or less means no cap.
+     */
+    public int getDailyReviewCap() {
+        return dailyReviewCap;
+    }
+
+    public void setDailyReviewCap(int dailyReviewCap) {
+        this.dailyReviewCap = dailyReviewCap;
+    }
+
+    /**
+     * Returns the largest number of due flash cards taken into a review session, where 0 or less means all of them.
+     */
+    public int getReviewBatchSize() {
+        return reviewBatchSize;
+    }
+
+    public void setReviewBatchSize(int reviewBatchSize) {
+        this.reviewBatchSize = reviewBatchSize;
+    }
+
     public Path getFlashlingoFilePath() {
         return flashlingoFilePath;
     }
@@ -80,13 +125,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && flashlingoFilePath.equals(otherUserPrefs.flashlingoFilePath)
-                && theme.equals(otherUserPrefs.theme);
+                && theme.equals(otherUserPrefs.theme)
+                && schedulingAlgorithm.equals(otherUserPrefs.schedulingAlgorithm)
+                && dailyReviewCap == otherUserPrefs.dailyReviewCap
+                && reviewBatchSize == otherUserPrefs.reviewBatchSize;
 
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, flashlingoFilePath, theme);
+        return Objects.hash(guiSettings, flashlingoFilePath, theme, schedulingAlgorithm, dailyReviewCap,
+                reviewBatchSize);
     }
 
     @Override
@@ -95,6 +144,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + flashlingoFilePath);
         sb.append("\nTheme : " + theme);
+        sb.append("\nScheduling algorithm : " + schedulingAlgorithm);
+        sb.append("\nDaily review cap : " + dailyReviewCap);
+        sb.append("\nReview batch size : " + reviewBatchSize);
         return sb.toString();
     }
 
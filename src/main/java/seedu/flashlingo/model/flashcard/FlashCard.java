@@ -5,8 +5,10 @@ package seedu.flashlingo.model.flashcard;
 import static seedu.flashlingo.commons.util.AppUtil.checkArgument;
 import static seedu.flashlingo.logic.Messages.MESSAGE_SAME_WORD;
 
-import java.util.Date;
+import java.time.Instant;
 
+import seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithm;
+import seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithms;
 import seedu.flashlingo.model.flashcard.words.OriginalWord;
 import seedu.flashlingo.model.flashcard.words.TranslatedWord;
 
@@ -20,7 +22,8 @@ import seedu.flashlingo.model.flashcard.words.TranslatedWord;
 public class FlashCard {
     private final OriginalWord originalWord;
     private final TranslatedWord translatedWord;
-    private Date whenToReview; // Date the flashcard was needs to be reviewed
+    private final FlashCardKey key;
+    private long whenToReview; // Time the flashcard needs to be reviewed, in milliseconds since the epoch
     private ProficiencyLevel currentLevel; // How many times successfully remembered
     private boolean isRemembered; //if successfully remembers word
     private boolean isRevealed = false;
@@ -29,15 +32,16 @@ public class FlashCard {
      *
      * @param originalWord   The word in the original language
      * @param translatedWord The word in the language you are learning
-     * @param whenToReview   The date of when you need to review this word
+     * @param whenToReview   The time when you need to review this word, in milliseconds since the epoch
      * @param level          The level of familiarity with the word
      */
-    public FlashCard(OriginalWord originalWord, TranslatedWord translatedWord, Date whenToReview,
+    public FlashCard(OriginalWord originalWord, TranslatedWord translatedWord, long whenToReview,
                      ProficiencyLevel level) {
         this.currentLevel = level;
         this.whenToReview = whenToReview;
         this.translatedWord = translatedWord;
         this.originalWord = originalWord;
+        this.key = new FlashCardKey(originalWord, translatedWord);
         checkArgument(isValidWord(originalWord, translatedWord), MESSAGE_SAME_WORD);
     }
 
@@ -46,16 +50,17 @@ public class FlashCard {
      *
      * @param originalWord   The word in the original language
      * @param translatedWord The word in the language you are learning
-     * @param whenToReview   The date of when you need to review this word
+     * @param whenToReview   The time when you need to review this word, in milliseconds since the epoch
      * @param level          The level of familiarity with the word
      * @param isRemembered   Whether the word was remembered
      */
-    public FlashCard(OriginalWord originalWord, TranslatedWord translatedWord, Date whenToReview,
+    public FlashCard(OriginalWord originalWord, TranslatedWord translatedWord, long whenToReview,
                      ProficiencyLevel level, boolean isRemembered) {
         this.currentLevel = level;
         this.whenToReview = whenToReview;
         this.translatedWord = translatedWord;
         this.originalWord = originalWord;
+        this.key = new FlashCardKey(originalWord, translatedWord);
         this.isRemembered = isRemembered;
     }
     //@@author D-Limiter
@@ -67,7 +72,17 @@ public class FlashCard {
         return translatedWord;
     }
     //@@author
-    public Date getWhenToReview() {
+    /**
+     * Returns the identity of this flashcard as a value, which does not change as the flashcard is reviewed.
+     */
+    public FlashCardKey getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the time when this flashcard needs to be reviewed, in milliseconds since the epoch.
+     */
+    public long getWhenToReview() {
         return whenToReview;
     }
 
@@ -88,7 +103,7 @@ public class FlashCard {
 
     //@@author Song-Mengfei
     private boolean isValidWord(OriginalWord word, TranslatedWord translate) {
-        return !word.getWord().equalsIgnoreCase(translate.getWord());
+        return !word.isSameWord(translate);
     }
     /**
      * Edits the flashCard
@@ -101,6 +116,14 @@ public class FlashCard {
         return new FlashCard(originalWord, translatedWord, whenToReview, currentLevel);
     }
 
+    /**
+     * Returns a copy of this flashcard that is not affected by later reviews of this flashcard.
+     */
+    public FlashCard copy() {
+        return new FlashCard(originalWord, translatedWord, whenToReview,
+                currentLevel.copy(), isRemembered);
+    }
+
     /**
      * Returns true if both flashcards have the same originalWord and translatedWord.
      * This defines a weaker notion of equality between two flashcards.
@@ -110,9 +133,7 @@ public class FlashCard {
             return true;
         }
 
-        return otherFlashCard != null
-                && otherFlashCard.getOriginalWord().equals(getOriginalWord())
-                && otherFlashCard.getTranslatedWord().equals(getTranslatedWord());
+        return otherFlashCard != null && otherFlashCard.key.equals(key);
     }
 
     //@@author D-Limiter
@@ -158,24 +179,37 @@ public class FlashCard {
 
     //@@author itsNatTan
     /**
-     * Returns true if the review date is before the current date.
-     * @return True or False depending on whether the review date is before the current date
+     * Returns true if the review time is before {@code now}.
+     * @param now The current time, in milliseconds since the epoch
+     * @return True or False depending on whether the review time is before {@code now}
      */
-    public boolean isOverdue() {
-        return this.whenToReview.before(new Date());
+    public boolean isOverdue(long now) {
+        return this.whenToReview < now;
     }
 
     /**
-     * Update the flash card to next level
+     * Update the flash card to next level, scheduling its next review with the default algorithm
+     * @param now The time of the review, in milliseconds since the epoch
      */
-    public void updateLevel(boolean isSuccess) {
+    public void updateLevel(boolean isSuccess, long now) {
+        updateLevel(isSuccess, now, SchedulingAlgorithms.getDefault());
+    }
+
+    /**
+     * Update the flash card to next level, scheduling its next review with {@code algorithm}
+     * @param now The time of the review, in milliseconds since the epoch
+     */
+    public void updateLevel(boolean isSuccess, long now, SchedulingAlgorithm algorithm) {
         if (isSuccess) {
             getProficiencyLevel().upgradeLevel();
-            updateReviewDate(getProficiencyLevel().calculateNextReviewInterval());
         } else {
             getProficiencyLevel().downgradeLevel();
-            updateReviewDate(getProficiencyLevel().calculateNextReviewInterval());
         }
+        long lastReview = whenToReview - currentLevel.getLastInterval();
+        long interval = algorithm.schedule(currentLevel, isSuccess, Math.max(0, now - lastReview));
+        currentLevel.setLastInterval(interval);
+        currentLevel.setRetired(algorithm.isRetired(currentLevel));
+        updateReviewDate(interval, now);
     }
 
     /**
@@ -186,12 +220,16 @@ public class FlashCard {
     @Override
     public String toString() {
         String sb = originalWord + " | " + originalWord.getLanguage() + " | " + translatedWord + " | "
-                + translatedWord.getLanguage() + " | " + whenToReview.toString() + " | " + currentLevel + "\n";
+                + translatedWord.getLanguage() + " | " + Instant.ofEpochMilli(whenToReview) + " | "
+                + currentLevel + "\n";
         return sb;
     }
 
-    public void updateReviewDate(long timeInMs) {
-        this.whenToReview = new Date(new Date().getTime() + timeInMs);
+    /**
+     * Sets the review time to {@code timeInMs} milliseconds after {@code now}.
+     */
+    public void updateReviewDate(long timeInMs, long now) {
+        this.whenToReview = now + timeInMs;
     }
 
     @Override
@@ -206,7 +244,11 @@ public class FlashCard {
         }
 
         FlashCard otherFlashCard = (FlashCard) other;
-        return originalWord.equals(otherFlashCard.originalWord)
-                && translatedWord.equals(otherFlashCard.translatedWord);
+        return key.equals(otherFlashCard.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
     }
 }
@@ -0,0 +1,71 @@
+package seedu.flashlingo.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.flashlingo.commons.util.ToStringBuilder;
+import seedu.flashlingo.model.flashcard.words.Word;
+
+/**
+ * The identity of a flashcard as a value: its original and translated words and their languages, in the normalized
+ * forms they are compared in. Two flashcards have equal keys if and only if
+ * {@link FlashCard#isSameFlashCard(FlashCard)} holds between them, so keys can stand in for flashcards in hash-based
+ * collections. Keys are immutable and their hash codes are computed once.
+ */
+public final class FlashCardKey {
+    private final String originalWord;
+    private final String originalLanguage;
+    private final String translatedWord;
+    private final String translatedLanguage;
+    private final int hash;
+
+    /**
+     * Creates the key of a flashcard with the given words.
+     */
+    public FlashCardKey(Word originalWord, Word translatedWord) {
+        requireNonNull(originalWord);
+        requireNonNull(translatedWord);
+        this.originalWord = originalWord.getNormalizedWord();
+        this.originalLanguage = originalWord.getNormalizedLanguage();
+        this.translatedWord = translatedWord.getNormalizedWord();
+        this.translatedLanguage = translatedWord.getNormalizedLanguage();
+        this.hash = Objects.hash(this.originalWord, this.originalLanguage, this.translatedWord,
+                this.translatedLanguage);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FlashCardKey)) {
+            return false;
+        }
+
+        FlashCardKey otherKey = (FlashCardKey) other;
+        // Normalized languages are shared instances, so they are compared by reference
+        return hash == otherKey.hash
+                && originalLanguage == otherKey.originalLanguage
+                && translatedLanguage == otherKey.translatedLanguage
+                && originalWord.equals(otherKey.originalWord)
+                && translatedWord.equals(otherKey.translatedWord);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("originalWord", originalWord)
+                .add("originalLanguage", originalLanguage)
+                .add("translatedWord", translatedWord)
+                .add("translatedLanguage", translatedLanguage)
+                .toString();
+    }
+}
@@ -0,0 +1,258 @@
+package seedu.flashlingo.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithm.DAY_IN_MS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.flashlingo.model.flashcard.words.Word;
+
+/**
+ * Keeps running counts over the flash cards of a list, so that statistics can be read without scanning the list.
+ * Cards added to or removed from the list are counted automatically, but a card whose level, review date or
+ * remembered state changes in place must be passed to {@link #update(FlashCard)}.
+ */
+public class FlashCardStatistics {
+
+    private final Map<FlashCard, CountedFlashCard> counted = new IdentityHashMap<>();
+    private final Map<String, LanguageStatistics> languages = new TreeMap<>();
+    private final NavigableMap<Integer, Integer> levelCounts = new TreeMap<>();
+    // Review dates of the cards under review, split at the time of the last overdue query
+    private final NavigableMap<Long, Integer> upcomingDueTimes = new TreeMap<>();
+    private final NavigableMap<Long, Integer> pastDueTimes = new TreeMap<>();
+    // Number of cards under review due on each day, keyed by the days since the epoch in UTC
+    private final NavigableMap<Long, Integer> dailyDueCounts = new TreeMap<>();
+    private long lastQueryTime = Long.MIN_VALUE;
+    private int overdueCount;
+    private int rememberedCount;
+
+    /**
+     * Creates statistics over the cards in {@code flashCards}, which keep themselves in sync with the list.
+     */
+    public FlashCardStatistics(ObservableList<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+        flashCards.forEach(this::add);
+        flashCards.addListener(this::onFlashCardsChanged);
+    }
+
+    /**
+     * Recounts {@code flashCard} after its level, review date or remembered state changed.
+     * {@code flashCard} must be in the list these statistics were created for.
+     */
+    public void update(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        remove(flashCard);
+        add(flashCard);
+    }
+
+    public int getTotalCount() {
+        return counted.size();
+    }
+
+    public int getRememberedCount() {
+        return rememberedCount;
+    }
+
+    /**
+     * Returns the number of cards under review that are overdue at {@code now}, in milliseconds since the epoch.
+     * Only the cards that became due or stopped being due since the previous query are looked at.
+     */
+    public int getOverdueCount(long now) {
+        if (now > lastQueryTime) {
+            moveDueTimes(upcomingDueTimes.headMap(now, false), pastDueTimes, 1);
+        } else if (now < lastQueryTime) {
+            moveDueTimes(pastDueTimes.tailMap(now, true), upcomingDueTimes, -1);
+        }
+        lastQueryTime = now;
+        return overdueCount;
+    }
+
+    /**
+     * Returns the number of cards under review that are due on {@code day}, counted in days since the epoch.
+     */
+    public int getDueCount(long day) {
+        return dailyDueCounts.getOrDefault(day, 0);
+    }
+
+    /**
+     * Returns the number of cards under review that are due on or before {@code day}, counted in days since the epoch.
+     */
+    public int getDueCountUntil(long day) {
+        int count = 0;
+        for (int dueCount : dailyDueCounts.headMap(day, true).values()) {
+            count += dueCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of reviews due on each of the {@code days} days from the day of {@code now}, in
+     * milliseconds since the epoch. The first count includes the cards that are already overdue.
+     */
+    public int[] getDueForecast(long now, int days) {
+        int[] forecast = new int[days];
+        if (days == 0) {
+            return forecast;
+        }
+        long today = getDay(now);
+        forecast[0] = getDueCountUntil(today);
+        for (Map.Entry<Long, Integer> dueCount : dailyDueCounts.subMap(today, false, today + days, false).entrySet()) {
+            forecast[(int) (dueCount.getKey() - today)] = dueCount.getValue();
+        }
+        return forecast;
+    }
+
+    /**
+     * Returns the day of {@code time}, in milliseconds since the epoch, counted in days since the epoch in UTC.
+     */
+    public static long getDay(long time) {
+        return Math.floorDiv(time, DAY_IN_MS);
+    }
+
+    /**
+     * Returns the number of cards at each proficiency level, in increasing order of level.
+     */
+    public Map<Integer, Integer> getLevelCounts() {
+        return Collections.unmodifiableMap(levelCounts);
+    }
+
+    /**
+     * Returns the statistics of every language used by the cards, in alphabetical order.
+     * A card is counted once for each different language of its two words.
+     */
+    public List<LanguageStatistics> getLanguageStatistics() {
+        return Collections.unmodifiableList(new ArrayList<>(languages.values()));
+    }
+
+    private void onFlashCardsChanged(ListChangeListener.Change<? extends FlashCard> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            if (change.wasAdded()) {
+                change.getAddedSubList().forEach(this::add);
+            }
+        }
+    }
+
+    private void add(FlashCard flashCard) {
+        CountedFlashCard countedFlashCard = new CountedFlashCard(flashCard);
+        counted.put(flashCard, countedFlashCard);
+        count(countedFlashCard, 1);
+    }
+
+    private void remove(FlashCard flashCard) {
+        CountedFlashCard countedFlashCard = counted.remove(flashCard);
+        if (countedFlashCard != null) {
+            count(countedFlashCard, -1);
+        }
+    }
+
+    private void count(CountedFlashCard flashCard, int delta) {
+        if (flashCard.isRemembered) {
+            rememberedCount += delta;
+        }
+        addTo(levelCounts, flashCard.level, delta);
+        for (Word word : flashCard.languageWords) {
+            String key = word.getNormalizedLanguage();
+            LanguageStatistics statistics = languages.computeIfAbsent(key, unused ->
+                    new LanguageStatistics(word.getLanguage()));
+            statistics.count += delta;
+            statistics.rememberedCount += flashCard.isRemembered ? delta : 0;
+            if (statistics.count == 0) {
+                languages.remove(key);
+            }
+        }
+        if (flashCard.isUnderReview) {
+            addTo(dailyDueCounts, getDay(flashCard.dueTime), delta);
+            if (flashCard.dueTime < lastQueryTime) {
+                addTo(pastDueTimes, flashCard.dueTime, delta);
+                overdueCount += delta;
+            } else {
+                addTo(upcomingDueTimes, flashCard.dueTime, delta);
+            }
+        }
+    }
+
+    /**
+     * Moves all counts in {@code from}, which is a view of one of the due time maps, into {@code to},
+     * changing the overdue count by {@code sign} for every card moved.
+     */
+    private void moveDueTimes(NavigableMap<Long, Integer> from, NavigableMap<Long, Integer> to, int sign) {
+        for (Map.Entry<Long, Integer> entry : from.entrySet()) {
+            addTo(to, entry.getKey(), entry.getValue());
+            overdueCount += sign * entry.getValue();
+        }
+        from.clear();
+    }
+
+    private static <K> void addTo(Map<K, Integer> counts, K key, int delta) {
+        int count = counts.getOrDefault(key, 0) + delta;
+        if (count == 0) {
+            counts.remove(key);
+        } else {
+            counts.put(key, count);
+        }
+    }
+
+    /**
+     * Counts of the cards using one language.
+     */
+    public static class LanguageStatistics {
+        private final String language;
+        private int count;
+        private int rememberedCount;
+
+        private LanguageStatistics(String language) {
+            this.language = language;
+        }
+
+        public String getLanguage() {
+            return language;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getRememberedCount() {
+            return rememberedCount;
+        }
+    }
+
+    /**
+     * The values of a card at the time it was counted, so that it can be uncounted after it changed in place.
+     */
+    private static class CountedFlashCard {
+        // The words whose languages are counted, one per distinct language
+        private final List<Word> languageWords = new ArrayList<>(2);
+        private final int level;
+        private final long dueTime;
+        private final boolean isUnderReview;
+        private final boolean isRemembered;
+
+        CountedFlashCard(FlashCard flashCard) {
+            Word originalWord = flashCard.getOriginalWord();
+            Word translatedWord = flashCard.getTranslatedWord();
+            if (!originalWord.getLanguage().isEmpty()) {
+                languageWords.add(originalWord);
+            }
+            if (!translatedWord.getLanguage().isEmpty() && !translatedWord.isSameLanguage(originalWord)) {
+                languageWords.add(translatedWord);
+            }
+            level = flashCard.getProficiencyLevel().getLevel();
+            dueTime = flashCard.getWhenToReview();
+            isUnderReview = !flashCard.isDeletedFromReview();
+            isRemembered = flashCard.isRecalled();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.flashlingo.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.flashlingo.commons.util.StringUtil.editDistance;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.flashlingo.model.flashcard.words.WordNormalizer;
+
+/**
+ * Indexes the flash cards of a list in a BK-tree of the terms of their words, so that the cards whose words are
+ * spelt like a keyword are found by comparing the keyword with only part of the terms.
+ * Matches are the same as those of {@link WordSimilarToKeywordsPredicate}.
+ * The index keeps itself in sync with the list. Words never change in place, as edits replace the card.
+ */
+public class FuzzyWordIndex {
+
+    private final Map<String, Node> nodes = new HashMap<>();
+    private Node root;
+    // Terms left in the tree after their last card was removed, until the tree is rebuilt
+    private int unusedTermCount;
+
+    /**
+     * Creates an index of the cards in {@code flashCards}, which keeps itself in sync with the list.
+     */
+    public FuzzyWordIndex(ObservableList<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+        flashCards.forEach(this::add);
+        flashCards.addListener(this::onFlashCardsChanged);
+    }
+
+    /**
+     * Returns the cards with a term within {@link WordSimilarToKeywordsPredicate#getMaxDistance(String)} edits
+     * of any of {@code keywords}, ignoring case.
+     */
+    public Set<FlashCard> findAny(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<FlashCard> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            String normalizedKeyword = WordNormalizer.normalize(keyword);
+            addMatches(normalizedKeyword, WordSimilarToKeywordsPredicate.getMaxDistance(normalizedKeyword), matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Adds the cards of the terms within {@code maxDistance} of {@code keyword} to {@code matches}.
+     * By the triangle inequality, only the children of a node at a distance {@code d} from the keyword whose own
+     * distance from the node is between {@code d - maxDistance} and {@code d + maxDistance} can match.
+     */
+    private void addMatches(String keyword, int maxDistance, Set<FlashCard> matches) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = editDistance(keyword, node.term);
+            if (distance <= maxDistance) {
+                matches.addAll(node.flashCards);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    toVisit.push(child.getValue());
+                }
+            }
+        }
+    }
+
+    private void onFlashCardsChanged(ListChangeListener.Change<? extends FlashCard> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            if (change.wasAdded()) {
+                change.getAddedSubList().forEach(this::add);
+            }
+        }
+        if (unusedTermCount > 0 && unusedTermCount >= nodes.size() - unusedTermCount) {
+            rebuild();
+        }
+    }
+
+    private void add(FlashCard flashCard) {
+        for (String term : getTerms(flashCard)) {
+            Node node = nodes.get(term);
+            if (node == null) {
+                node = insert(term);
+            } else if (node.flashCards.isEmpty()) {
+                unusedTermCount--;
+            }
+            node.flashCards.add(flashCard);
+        }
+    }
+
+    private Node insert(String term) {
+        Node node = new Node(term);
+        nodes.put(term, node);
+        if (root == null) {
+            root = node;
+            return node;
+        }
+        Node parent = root;
+        while (true) {
+            int distance = editDistance(term, parent.term);
+            Node child = parent.children.get(distance);
+            if (child == null) {
+                parent.children.put(distance, node);
+                return node;
+            }
+            parent = child;
+        }
+    }
+
+    /**
+     * Forgets {@code flashCard}, leaving its terms in the tree until the tree is rebuilt.
+     */
+    private void remove(FlashCard flashCard) {
+        for (String term : getTerms(flashCard)) {
+            Node node = nodes.get(term);
+            if (node != null && node.flashCards.remove(flashCard) && node.flashCards.isEmpty()) {
+                unusedTermCount++;
+            }
+        }
+        if (unusedTermCount == nodes.size()) {
+            nodes.clear();
+            root = null;
+            unusedTermCount = 0;
+        }
+    }
+
+    /**
+     * Builds the tree again from the terms that still have cards.
+     */
+    private void rebuild() {
+        List<Node> usedNodes = new ArrayList<>(nodes.size() - unusedTermCount);
+        for (Node node : nodes.values()) {
+            if (!node.flashCards.isEmpty()) {
+                usedNodes.add(node);
+            }
+        }
+        nodes.clear();
+        root = null;
+        unusedTermCount = 0;
+        for (Node usedNode : usedNodes) {
+            insert(usedNode.term).flashCards.addAll(usedNode.flashCards);
+        }
+    }
+
+    private static List<String> getTerms(FlashCard flashCard) {
+        List<String> terms = WordSimilarToKeywordsPredicate.getTerms(flashCard.getOriginalWord());
+        terms.addAll(WordSimilarToKeywordsPredicate.getTerms(flashCard.getTranslatedWord()));
+        return terms;
+    }
+
+    /**
+     * A term of the tree with the cards having it, and its children keyed by their distance from it.
+     */
+    private static class Node {
+        private final String term;
+        private final Set<FlashCard> flashCards = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String term) {
+            this.term = term;
+        }
+    }
+}
@@ -2,8 +2,12 @@
 
 package seedu.flashlingo.model.flashcard;
 
+import java.util.Objects;
+
+import seedu.flashlingo.model.flashcard.scheduling.LeitnerAlgorithm;
+
 /**
- * Represents the level of familiarity to a flashcard
+ * Represents the level of familiarity to a flashcard, along with the state kept by the scheduling algorithms
  *
  * @author Nathanael M. Tan
  * @version 1.2
@@ -12,15 +16,54 @@ package seedu.flashlingo.model.flashcard;
 public class ProficiencyLevel {
     public static final String MESSAGE_CONSTRAINTS =
         "Proficiency level should be an integer larger than or equal to 1";
+    public static final String MESSAGE_STATE_CONSTRAINTS =
+        "Scheduling state should have a positive ease factor, a difficulty from 0 to 10, "
+            + "and a non-negative stability and interval";
+    public static final double DEFAULT_EASE_FACTOR = 2.5;
+    private static final double MAX_DIFFICULTY = 10;
 
-    /**
-     * The threshold after which the flashcard is removed from review session
-     */
-    private static int deleteFromReviewThreshold = 5;
     private int level; // Base level of 1
+    private double easeFactor = DEFAULT_EASE_FACTOR; // Multiplier of the interval under SM-2
+    private double stability; // Days to 90% recall under FSRS, 0 before the first review
+    private double difficulty; // Difficulty from 1 to 10 under FSRS, 0 before the first review
+    private long lastInterval; // Interval last scheduled in milliseconds, 0 before the first review
+    private boolean isRetired; // Whether the scheduling algorithm took the flashcard out of review
 
+    /**
+     * Constructs a proficiency level at {@code level}, which is retired from review from the Leitner retirement
+     * level, as it was for every flashcard before the scheduling algorithm decided it.
+     */
     public ProficiencyLevel(int level) {
         this.level = level;
+        isRetired = level >= LeitnerAlgorithm.RETIREMENT_LEVEL;
+    }
+
+    /**
+     * Constructs a proficiency level with the given scheduling state, which is retired from review from the
+     * Leitner retirement level.
+     */
+    public ProficiencyLevel(int level, double easeFactor, double stability, double difficulty, long lastInterval) {
+        this(level, easeFactor, stability, difficulty, lastInterval, level >= LeitnerAlgorithm.RETIREMENT_LEVEL);
+    }
+
+    /**
+     * Constructs a proficiency level with the given scheduling state.
+     */
+    public ProficiencyLevel(int level, double easeFactor, double stability, double difficulty, long lastInterval,
+                            boolean isRetired) {
+        this.level = level;
+        this.easeFactor = easeFactor;
+        this.stability = stability;
+        this.difficulty = difficulty;
+        this.lastInterval = lastInterval;
+        this.isRetired = isRetired;
+    }
+
+    /**
+     * Returns a copy of this proficiency level, including its scheduling state.
+     */
+    public ProficiencyLevel copy() {
+        return new ProficiencyLevel(level, easeFactor, stability, difficulty, lastInterval, isRetired);
     }
 
     /**
@@ -49,14 +92,11 @@ public class ProficiencyLevel {
     }
 
     /**
-     * Checks if the flashcard is deleted from review session.
+     * Checks if the flashcard is deleted from review session, as decided by the algorithm that last scheduled it.
      * @return
      */
     public boolean isDeletedFromReview() {
-        if (level >= deleteFromReviewThreshold) {
-            return true;
-        }
-        return false;
+        return isRetired;
     }
 
     /**
@@ -69,7 +109,7 @@ public class ProficiencyLevel {
 
     @Override
     public String toString() {
-        if (this.level >= this.deleteFromReviewThreshold) {
+        if (isRetired) {
             return "Word Mastered";
         }
         return String.valueOf(this.level);
@@ -83,6 +123,53 @@ public class ProficiencyLevel {
         this.level = level;
     }
 
+    /**
+     * Returns true if the given values form a valid scheduling state.
+     */
+    public static boolean isValidSchedulingState(double easeFactor, double stability, double difficulty,
+                                                 long lastInterval) {
+        return Double.isFinite(easeFactor) && easeFactor > 0
+                && Double.isFinite(stability) && stability >= 0
+                && difficulty >= 0 && difficulty <= MAX_DIFFICULTY
+                && lastInterval >= 0;
+    }
+
+    public double getEaseFactor() {
+        return easeFactor;
+    }
+
+    public void setEaseFactor(double easeFactor) {
+        this.easeFactor = easeFactor;
+    }
+
+    public double getStability() {
+        return stability;
+    }
+
+    public void setStability(double stability) {
+        this.stability = stability;
+    }
+
+    public double getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(double difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public long getLastInterval() {
+        return lastInterval;
+    }
+
+    public void setLastInterval(long lastInterval) {
+        this.lastInterval = lastInterval;
+    }
+
+    public void setRetired(boolean isRetired) {
+        this.isRetired = isRetired;
+    }
+
     /**
      * Checks if two proficiency levels are equal.
      * @param other
@@ -98,6 +185,16 @@ public class ProficiencyLevel {
             return false;
         }
         ProficiencyLevel otherProficiencyLevel = (ProficiencyLevel) other;
-        return otherProficiencyLevel.level == this.level;
+        return otherProficiencyLevel.level == this.level
+                && otherProficiencyLevel.easeFactor == this.easeFactor
+                && otherProficiencyLevel.stability == this.stability
+                && otherProficiencyLevel.difficulty == this.difficulty
+                && otherProficiencyLevel.lastInterval == this.lastInterval
+                && otherProficiencyLevel.isRetired == this.isRetired;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(level, easeFactor, stability, difficulty, lastInterval, isRetired);
     }
 }
@@ -0,0 +1,105 @@
+package seedu.flashlingo.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithm.DAY_IN_MS;
+
+import seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithm;
+
+/**
+ * Spreads the reviews of flash cards over days, reading the number of reviews due on each day from
+ * {@link FlashCardStatistics}, so that cards added or reviewed together do not all fall due on the same day.
+ * New cards fill each day up to a daily cap, starting from today. The next review of a reviewed card may be moved
+ * by a small fraction of its interval, called fuzz, to the nearest day under the cap, or to the least loaded day
+ * if every day in reach is full. Days are counted in UTC.
+ */
+public class ReviewLoadBalancer {
+    /** Fraction of an interval by which a review may be moved, which is at least a day. */
+    public static final double FUZZ_RATIO = 0.05;
+    /** Reviews scheduled sooner than this are not moved. */
+    public static final long MIN_FUZZED_INTERVAL = 3 * DAY_IN_MS;
+
+    private final FlashCardStatistics statistics;
+    private final int dailyCap;
+    // The day new cards are added to, and the number of reviews due on it so far
+    private long newCardDay = Long.MIN_VALUE;
+    private int newCardDayCount;
+
+    /**
+     * Creates a balancer over the due counts of {@code statistics}, which keeps at most {@code dailyCap} reviews on
+     * each day where it can. A cap of 0 or less means no cap.
+     */
+    public ReviewLoadBalancer(FlashCardStatistics statistics, int dailyCap) {
+        requireNonNull(statistics);
+        this.statistics = statistics;
+        this.dailyCap = dailyCap > 0 ? dailyCap : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns when a new card added at {@code now} should first be reviewed: at {@code now} if today has room
+     * under the cap, or else at the start of the first later day with room.
+     * A balancer counts the new cards it has placed on its current day itself, so a new balancer should be used
+     * for each group of new cards, and for no other changes while they are added.
+     */
+    public long scheduleNewCard(long now) {
+        long today = FlashCardStatistics.getDay(now);
+        if (newCardDay < today) {
+            newCardDay = today;
+            newCardDayCount = statistics.getDueCountUntil(today);
+        }
+        while (newCardDayCount >= dailyCap) {
+            newCardDay++;
+            newCardDayCount = statistics.getDueCount(newCardDay);
+        }
+        newCardDayCount++;
+        return newCardDay == today ? now : newCardDay * DAY_IN_MS;
+    }
+
+    /**
+     * Returns the interval to use instead of {@code interval} for the next review of a card reviewed at
+     * {@code now}, moving the review by up to its fuzz when the day it falls on is full.
+     */
+    public long balance(long now, long interval) {
+        if (interval < MIN_FUZZED_INTERVAL) {
+            return interval;
+        }
+        long fuzz = Math.max(1, Math.round(interval * FUZZ_RATIO / DAY_IN_MS));
+        long targetDay = FlashCardStatistics.getDay(now + interval);
+        long bestDay = targetDay;
+        int bestCount = statistics.getDueCount(targetDay);
+        // Looks at the days in order of distance from the target day until one is under the cap
+        for (long offset = 1; offset <= fuzz && bestCount >= dailyCap; offset++) {
+            for (long day : new long[] {targetDay - offset, targetDay + offset}) {
+                int count = statistics.getDueCount(day);
+                if (count < bestCount) {
+                    bestDay = day;
+                    bestCount = count;
+                }
+            }
+        }
+        return interval + (bestDay - targetDay) * DAY_IN_MS;
+    }
+
+    /**
+     * Returns an algorithm that schedules reviews at {@code now} like {@code algorithm}, with the intervals
+     * balanced by this balancer.
+     */
+    public SchedulingAlgorithm balancing(SchedulingAlgorithm algorithm, long now) {
+        requireNonNull(algorithm);
+        return new SchedulingAlgorithm() {
+            @Override
+            public String getName() {
+                return algorithm.getName();
+            }
+
+            @Override
+            public long schedule(ProficiencyLevel level, boolean isSuccess, long elapsed) {
+                return balance(now, algorithm.schedule(level, isSuccess, elapsed));
+            }
+
+            @Override
+            public boolean isRetired(ProficiencyLevel level) {
+                return algorithm.isRetired(level);
+            }
+        };
+    }
+}
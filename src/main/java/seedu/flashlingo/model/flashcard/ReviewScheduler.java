@@ -0,0 +1,201 @@
+package seedu.flashlingo.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps the flash cards of a list that are still part of review in a min-heap ordered by when they are due,
+ * so that the next card to review is found without scanning the list.
+ * Cards added to or removed from the list are scheduled automatically, but a card whose review date or level
+ * changes in place must be passed to {@link #reschedule(FlashCard)}.
+ * Cards due at the same time are ordered by when they were scheduled.
+ */
+public class ReviewScheduler {
+
+    private final List<Entry> heap = new ArrayList<>();
+    private final Map<FlashCard, Entry> entries = new IdentityHashMap<>();
+    private long nextSequence;
+
+    /**
+     * Creates a scheduler for the cards in {@code flashCards}, which keeps itself in sync with the list.
+     */
+    public ReviewScheduler(ObservableList<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+        scheduleAll(flashCards);
+        flashCards.addListener(this::onFlashCardsChanged);
+    }
+
+    /**
+     * Returns the card that has been due for the longest time at {@code now}, in milliseconds since the epoch,
+     * or {@code Optional.empty()} if no card is due.
+     */
+    public Optional<FlashCard> getNextOverdue(long now) {
+        if (heap.isEmpty() || heap.get(0).dueTime >= now) {
+            return Optional.empty();
+        }
+        return Optional.of(heap.get(0).flashCard);
+    }
+
+    /**
+     * Returns up to {@code limit} of the cards that are due at {@code now}, in milliseconds since the epoch, in the
+     * order they became due. Only the part of the heap holding the returned cards is looked at.
+     */
+    public List<FlashCard> getOverdue(long now, int limit) {
+        List<FlashCard> overdue = new ArrayList<>();
+        // Entries whose parents have been taken, of which the earliest due is the next to take
+        PriorityQueue<Entry> frontier = new PriorityQueue<>((first, second) ->
+                first.isBefore(second) ? -1 : second.isBefore(first) ? 1 : 0);
+        if (!heap.isEmpty()) {
+            frontier.add(heap.get(0));
+        }
+        while (overdue.size() < limit && !frontier.isEmpty() && frontier.peek().dueTime < now) {
+            Entry entry = frontier.poll();
+            overdue.add(entry.flashCard);
+            for (int child = 2 * entry.index + 1; child <= 2 * entry.index + 2 && child < heap.size(); child++) {
+                frontier.add(heap.get(child));
+            }
+        }
+        return overdue;
+    }
+
+    /**
+     * Updates the position of {@code flashCard} after its review date or level changed.
+     * {@code flashCard} must be in the list this scheduler was created for.
+     */
+    public void reschedule(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        unschedule(flashCard);
+        schedule(flashCard);
+    }
+
+    /**
+     * Returns the number of cards that are scheduled for review.
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    private void onFlashCardsChanged(ListChangeListener.Change<? extends FlashCard> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (FlashCard removed : change.getRemoved()) {
+                unschedule(removed);
+            }
+            if (change.wasAdded()) {
+                scheduleAll(change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Schedules {@code flashCards}, rebuilding the heap in linear time when they outnumber the scheduled cards.
+     */
+    private void scheduleAll(List<? extends FlashCard> flashCards) {
+        if (flashCards.size() <= heap.size()) {
+            flashCards.forEach(this::schedule);
+            return;
+        }
+
+        for (FlashCard flashCard : flashCards) {
+            if (!flashCard.isDeletedFromReview()) {
+                Entry entry = new Entry(flashCard, nextSequence++, heap.size());
+                heap.add(entry);
+                entries.put(flashCard, entry);
+            }
+        }
+        for (int i = heap.size() / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    private void schedule(FlashCard flashCard) {
+        if (flashCard.isDeletedFromReview()) {
+            return;
+        }
+        Entry entry = new Entry(flashCard, nextSequence++, heap.size());
+        heap.add(entry);
+        entries.put(flashCard, entry);
+        siftUp(entry.index);
+    }
+
+    private void unschedule(FlashCard flashCard) {
+        Entry entry = entries.remove(flashCard);
+        if (entry == null) {
+            return;
+        }
+
+        Entry last = heap.remove(heap.size() - 1);
+        if (last != entry) {
+            place(last, entry.index);
+            siftDown(last.index);
+            siftUp(last.index);
+        }
+    }
+
+    private void siftUp(int index) {
+        Entry entry = heap.get(index);
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!entry.isBefore(heap.get(parent))) {
+                break;
+            }
+            place(heap.get(parent), index);
+            index = parent;
+        }
+        place(entry, index);
+    }
+
+    private void siftDown(int index) {
+        Entry entry = heap.get(index);
+        int size = heap.size();
+        while (2 * index + 1 < size) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap.get(child + 1).isBefore(heap.get(child))) {
+                child++;
+            }
+            if (!heap.get(child).isBefore(entry)) {
+                break;
+            }
+            place(heap.get(child), index);
+            index = child;
+        }
+        place(entry, index);
+    }
+
+    private void place(Entry entry, int index) {
+        heap.set(index, entry);
+        entry.index = index;
+    }
+
+    /**
+     * A scheduled card with the due time it was scheduled at.
+     */
+    private static class Entry {
+        private final FlashCard flashCard;
+        private final long dueTime;
+        private final long sequence;
+        private int index;
+
+        Entry(FlashCard flashCard, long sequence, int index) {
+            this.flashCard = flashCard;
+            this.dueTime = flashCard.getWhenToReview();
+            this.sequence = sequence;
+            this.index = index;
+        }
+
+        boolean isBefore(Entry other) {
+            return dueTime < other.dueTime || (dueTime == other.dueTime && sequence < other.sequence);
+        }
+    }
+}
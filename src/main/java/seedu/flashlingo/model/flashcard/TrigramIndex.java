@@ -0,0 +1,214 @@
+package seedu.flashlingo.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.flashlingo.model.flashcard.words.Word;
+import seedu.flashlingo.model.flashcard.words.WordNormalizer;
+
+/**
+ * Indexes the flash cards of a list by the three-character substrings of their normalized words, so that the cards
+ * whose original or translated word contains a keyword are found without testing every card.
+ * Matches are the same as those of {@link FlashCard#hasKeyword(String)}.
+ * The index keeps itself in sync with the list. Words never change in place, as edits replace the card.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<FlashCard, Integer> ids = new IdentityHashMap<>();
+    // Indexed cards by id, with null in place of removed cards whose ids may still be in the postings
+    private final List<IndexedFlashCard> indexedFlashCards = new ArrayList<>();
+    private int removedCount;
+
+    /**
+     * Creates an index of the cards in {@code flashCards}, which keeps itself in sync with the list.
+     */
+    public TrigramIndex(ObservableList<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+        flashCards.forEach(this::add);
+        flashCards.addListener(this::onFlashCardsChanged);
+    }
+
+    /**
+     * Returns the cards whose original or translated word contains any of {@code keywords}, ignoring case.
+     */
+    public Set<FlashCard> findAny(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<FlashCard> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            addMatches(WordNormalizer.normalize(keyword), matches);
+        }
+        return matches;
+    }
+
+    private void addMatches(String keyword, Set<FlashCard> matches) {
+        if (keyword.length() < GRAM_LENGTH) {
+            for (IndexedFlashCard indexedFlashCard : indexedFlashCards) {
+                if (indexedFlashCard != null && indexedFlashCard.contains(keyword)) {
+                    matches.add(indexedFlashCard.flashCard);
+                }
+            }
+            return;
+        }
+
+        List<Postings> keywordPostings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            Postings gramPostings = postings.get(toGram(keyword, i));
+            if (gramPostings == null) {
+                return;
+            }
+            keywordPostings.add(gramPostings);
+        }
+        keywordPostings.sort(Comparator.comparingInt(gramPostings -> gramPostings.size));
+
+        int[] candidates = Arrays.copyOf(keywordPostings.get(0).ids, keywordPostings.get(0).size);
+        int candidateCount = candidates.length;
+        for (int i = 1; i < keywordPostings.size() && candidateCount > 0; i++) {
+            candidateCount = keywordPostings.get(i).retainAll(candidates, candidateCount);
+        }
+
+        // Having every trigram of the keyword does not mean having the keyword itself
+        for (int i = 0; i < candidateCount; i++) {
+            IndexedFlashCard indexedFlashCard = indexedFlashCards.get(candidates[i]);
+            if (indexedFlashCard != null && indexedFlashCard.contains(keyword)) {
+                matches.add(indexedFlashCard.flashCard);
+            }
+        }
+    }
+
+    private void onFlashCardsChanged(ListChangeListener.Change<? extends FlashCard> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            if (change.wasAdded()) {
+                change.getAddedSubList().forEach(this::add);
+            }
+        }
+        if (removedCount > 0 && removedCount >= ids.size()) {
+            rebuild();
+        }
+    }
+
+    private void add(FlashCard flashCard) {
+        int id = indexedFlashCards.size();
+        IndexedFlashCard indexedFlashCard = new IndexedFlashCard(flashCard);
+        indexedFlashCards.add(indexedFlashCard);
+        ids.put(flashCard, id);
+        addGrams(indexedFlashCard.originalWord, id);
+        addGrams(indexedFlashCard.translatedWord, id);
+    }
+
+    private void addGrams(String word, int id) {
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            postings.computeIfAbsent(toGram(word, i), unused -> new Postings()).add(id);
+        }
+    }
+
+    /**
+     * Forgets {@code flashCard}, leaving its id in the postings until the index is rebuilt.
+     */
+    private void remove(FlashCard flashCard) {
+        Integer id = ids.remove(flashCard);
+        if (id == null) {
+            return;
+        }
+        indexedFlashCards.set(id, null);
+        removedCount++;
+        if (ids.isEmpty()) {
+            postings.clear();
+            indexedFlashCards.clear();
+            removedCount = 0;
+        }
+    }
+
+    /**
+     * Indexes the remaining cards again, dropping the ids of removed cards from the postings.
+     */
+    private void rebuild() {
+        List<FlashCard> remaining = new ArrayList<>(ids.size());
+        for (IndexedFlashCard indexedFlashCard : indexedFlashCards) {
+            if (indexedFlashCard != null) {
+                remaining.add(indexedFlashCard.flashCard);
+            }
+        }
+        postings.clear();
+        ids.clear();
+        indexedFlashCards.clear();
+        removedCount = 0;
+        remaining.forEach(this::add);
+    }
+
+    private static long toGram(String word, int start) {
+        return ((long) word.charAt(start) << 32) | ((long) word.charAt(start + 1) << 16) | word.charAt(start + 2);
+    }
+
+    /**
+     * A card with the normalized forms of its words, which {@link Word} keeps.
+     */
+    private static class IndexedFlashCard {
+        private final FlashCard flashCard;
+        private final String originalWord;
+        private final String translatedWord;
+
+        IndexedFlashCard(FlashCard flashCard) {
+            this.flashCard = flashCard;
+            this.originalWord = flashCard.getOriginalWord().getNormalizedWord();
+            this.translatedWord = flashCard.getTranslatedWord().getNormalizedWord();
+        }
+
+        boolean contains(String keyword) {
+            return originalWord.contains(keyword) || translatedWord.contains(keyword);
+        }
+    }
+
+    /**
+     * The ids of the cards having a trigram, in increasing order and without repeats.
+     */
+    private static class Postings {
+        private int[] ids = new int[2];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Keeps only the first {@code count} ids of {@code candidates}, which are in increasing order,
+         * that are also in these postings, and returns how many were kept.
+         */
+        int retainAll(int[] candidates, int count) {
+            int kept = 0;
+            int i = 0;
+            for (int j = 0; j < count && i < size; j++) {
+                while (i < size && ids[i] < candidates[j]) {
+                    i++;
+                }
+                if (i < size && ids[i] == candidates[j]) {
+                    candidates[kept++] = candidates[j];
+                }
+            }
+            return kept;
+        }
+    }
+}
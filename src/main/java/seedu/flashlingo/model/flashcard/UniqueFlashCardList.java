@@ -5,13 +5,20 @@ package seedu.flashlingo.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.flashlingo.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.flashlingo.model.flashcard.exceptions.DuplicateFlashCardException;
 import seedu.flashlingo.model.flashcard.exceptions.FlashCardNotFoundException;
+import seedu.flashlingo.model.flashcard.words.WordNormalizer;
 
 /**
  * A list of flashcards that enforces uniqueness between its elements and does not allow nulls.
@@ -23,6 +30,10 @@ import seedu.flashlingo.model.flashcard.exceptions.FlashCardNotFoundException;
  * However, the removal of a flashcard uses FlashCard#equals(Object) so
  * as to ensure that the flashcard with exactly the same fields will be removed.
  *
+ * A hash index keyed on the {@link FlashCardKey} of each flashcard is kept in sync with the backing list,
+ * so that duplicate detection does not require a scan of the whole list. The flashcards are also partitioned
+ * by the normalized languages of their words, so that the flashcards of a language are found without a scan.
+ *
  * Supports a minimal set of list operations.
  *
  * @see FlashCard#isSameFlashCard(FlashCard)
@@ -32,13 +43,15 @@ public class UniqueFlashCardList implements Iterable<FlashCard> {
     private final ObservableList<FlashCard> internalList = FXCollections.observableArrayList();
     private final ObservableList<FlashCard> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final Map<FlashCardKey, FlashCard> identityIndex = new HashMap<>();
+    private final Map<String, Set<FlashCard>> languageIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent flashcard as the given argument.
      */
     public boolean contains(FlashCard toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameFlashCard);
+        return identityIndex.containsKey(toCheck.getKey());
     }
 
     /**
@@ -51,6 +64,41 @@ public class UniqueFlashCardList implements Iterable<FlashCard> {
             throw new DuplicateFlashCardException();
         }
         internalList.add(toAdd);
+        identityIndex.put(toAdd.getKey(), toAdd);
+        indexLanguages(toAdd);
+    }
+
+    /**
+     * Adds a flashcard to the list at {@code index}.
+     * The flashcard must not already exist in the list.
+     */
+    public void add(int index, FlashCard toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateFlashCardException();
+        }
+        internalList.add(index, toAdd);
+        identityIndex.put(toAdd.getKey(), toAdd);
+        indexLanguages(toAdd);
+    }
+
+    /**
+     * Adds the flashcards in {@code toAdd} that are not already in the list, in order, with a single change to the
+     * backing list. A flashcard with the same identity as an earlier one in {@code toAdd} is not added either.
+     *
+     * @return the flashcards that were added.
+     */
+    public List<FlashCard> addAll(List<FlashCard> toAdd) {
+        requireAllNonNull(toAdd);
+        List<FlashCard> added = new ArrayList<>(toAdd.size());
+        for (FlashCard flashCard : toAdd) {
+            if (identityIndex.putIfAbsent(flashCard.getKey(), flashCard) == null) {
+                added.add(flashCard);
+                indexLanguages(flashCard);
+            }
+        }
+        internalList.addAll(added);
+        return added;
     }
 
     /**
@@ -70,18 +118,29 @@ public class UniqueFlashCardList implements Iterable<FlashCard> {
             throw new DuplicateFlashCardException();
         }
 
-        internalList.set(index, editedFlashCard);
+        FlashCard replaced = internalList.set(index, editedFlashCard);
+        identityIndex.remove(target.getKey());
+        identityIndex.put(editedFlashCard.getKey(), editedFlashCard);
+        unindexLanguages(replaced);
+        indexLanguages(editedFlashCard);
     }
 
     /**
      * Removes the equivalent flashcard from the list.
-     * The flashcard must exist in the list.
+     * The flashcard must exist in the list. The list is searched from its end, where flashcards are added.
+     *
+     * @return the index the flashcard was removed from.
      */
-    public void remove(FlashCard toRemove) {
+    public int remove(FlashCard toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        FlashCardKey key = toRemove.getKey();
+        int index = identityIndex.containsKey(key) ? internalList.lastIndexOf(toRemove) : -1;
+        if (index == -1) {
             throw new FlashCardNotFoundException();
         }
+        internalList.remove(index);
+        unindexLanguages(identityIndex.remove(key));
+        return index;
     }
 
     /**
@@ -90,11 +149,26 @@ public class UniqueFlashCardList implements Iterable<FlashCard> {
      */
     public void setFlashCards(List<FlashCard> flashCards) {
         requireAllNonNull(flashCards);
-        if (!flashCardsAreUnique(flashCards)) {
+        Map<FlashCardKey, FlashCard> newIndex = indexIfUnique(flashCards);
+        if (newIndex == null) {
             throw new DuplicateFlashCardException();
         }
 
         internalList.setAll(flashCards);
+        identityIndex.clear();
+        identityIndex.putAll(newIndex);
+        languageIndex.clear();
+        flashCards.forEach(this::indexLanguages);
+    }
+
+    /**
+     * Returns the flashcards with an original or translated word in {@code language}, ignoring case,
+     * as an unmodifiable set that compares flashcards by reference.
+     */
+    public Set<FlashCard> getFlashCardsInLanguage(String language) {
+        requireNonNull(language);
+        Set<FlashCard> flashCards = languageIndex.get(WordNormalizer.normalize(language));
+        return flashCards == null ? Collections.emptySet() : Collections.unmodifiableSet(flashCards);
     }
 
     /**
@@ -135,16 +209,39 @@ public class UniqueFlashCardList implements Iterable<FlashCard> {
     }
 
     /**
-     * Returns true if {@code flashCards} contains only unique flashCards.
+     * Returns an identity index of {@code cardList}, or null if {@code cardList} contains duplicate flashCards.
      */
-    private boolean flashCardsAreUnique(List<FlashCard> cardList) {
-        for (int i = 0; i < cardList.size() - 1; i++) {
-            for (int j = i + 1; j < cardList.size(); j++) {
-                if (cardList.get(i).isSameFlashCard(cardList.get(j))) {
-                    return false;
-                }
+    private Map<FlashCardKey, FlashCard> indexIfUnique(List<FlashCard> cardList) {
+        Map<FlashCardKey, FlashCard> index = new HashMap<>();
+        for (FlashCard flashCard : cardList) {
+            if (index.putIfAbsent(flashCard.getKey(), flashCard) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
+    }
+
+    private void indexLanguages(FlashCard flashCard) {
+        for (String language : getNormalizedLanguages(flashCard)) {
+            languageIndex.computeIfAbsent(language, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(flashCard);
+        }
+    }
+
+    private void unindexLanguages(FlashCard flashCard) {
+        for (String language : getNormalizedLanguages(flashCard)) {
+            Set<FlashCard> flashCards = languageIndex.get(language);
+            if (flashCards != null && flashCards.remove(flashCard) && flashCards.isEmpty()) {
+                languageIndex.remove(language);
+            }
+        }
+    }
+
+    private static List<String> getNormalizedLanguages(FlashCard flashCard) {
+        String originalLanguage = flashCard.getOriginalWord().getNormalizedLanguage();
+        String translatedLanguage = flashCard.getTranslatedWord().getNormalizedLanguage();
+        return originalLanguage.equals(translatedLanguage)
+                ? Collections.singletonList(originalLanguage)
+                : List.of(originalLanguage, translatedLanguage);
     }
 }
@@ -1,24 +1,41 @@
 package seedu.flashlingo.model.flashcard;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.flashlingo.commons.util.ToStringBuilder;
+import seedu.flashlingo.model.flashcard.words.WordNormalizer;
 
 /**
  * Tests that a {@code FlashCard}'s {@code Word} matches any of the keywords given.
  */
 public class WordContainsKeywordsPredicate implements Predicate<FlashCard> {
     private final List<String> keywords;
+    // Normalized once, so that testing a card does not allocate
+    private final String[] normalizedKeywords;
 
+    /**
+     * Creates a predicate accepting the flash cards whose words contain any of {@code keywords}, ignoring case.
+     */
     public WordContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(WordNormalizer::normalize).toArray(String[]::new);
+    }
+
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
     }
 
     @Override
     public boolean test(FlashCard flashCard) {
-        return keywords.stream()
-          .anyMatch(flashCard::hasKeyword);
+        for (String normalizedKeyword : normalizedKeywords) {
+            if (flashCard.getOriginalWord().hasNormalizedSubpart(normalizedKeyword)
+                    || flashCard.getTranslatedWord().hasNormalizedSubpart(normalizedKeyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
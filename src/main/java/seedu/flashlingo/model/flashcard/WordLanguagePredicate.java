@@ -14,6 +14,10 @@ public class WordLanguagePredicate implements Predicate<FlashCard> {
         this.language = language;
     }
 
+    public String getLanguage() {
+        return language;
+    }
+
     @Override
     public boolean test(FlashCard flashCard) {
         return flashCard.isSameLanguage(language);
@@ -6,15 +6,23 @@ import seedu.flashlingo.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code FlashCard} is overdue or not.
+ * The current time is read once when the predicate is created, so that testing a card allocates nothing and every
+ * card of a filter pass is compared with the same time.
  */
 public class WordOverduePredicate implements Predicate<FlashCard> {
 
-    public WordOverduePredicate() {
+    private final long now;
+
+    /**
+     * Creates a predicate for the cards that are overdue at {@code now}, in milliseconds since the epoch.
+     */
+    public WordOverduePredicate(long now) {
+        this.now = now;
     }
 
     @Override
     public boolean test(FlashCard flashCard) {
-        return flashCard.isOverdue() && !flashCard.isDeletedFromReview();
+        return flashCard.isOverdue(now) && !flashCard.isDeletedFromReview();
     }
 
     @Override
@@ -23,11 +31,17 @@ public class WordOverduePredicate implements Predicate<FlashCard> {
             return true;
         }
 
-        return other instanceof WordOverduePredicate;
+        // instanceof handles nulls
+        if (!(other instanceof WordOverduePredicate)) {
+            return false;
+        }
+
+        WordOverduePredicate otherWordOverduePredicate = (WordOverduePredicate) other;
+        return now == otherWordOverduePredicate.now;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", "overdue").toString();
+        return new ToStringBuilder(this).add("keywords", "overdue").add("now", now).toString();
     }
 }
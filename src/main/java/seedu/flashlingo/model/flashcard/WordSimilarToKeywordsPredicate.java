@@ -0,0 +1,93 @@
+package seedu.flashlingo.model.flashcard;
+
+import static seedu.flashlingo.commons.util.StringUtil.editDistance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.flashlingo.commons.util.ToStringBuilder;
+import seedu.flashlingo.model.flashcard.words.Word;
+import seedu.flashlingo.model.flashcard.words.WordNormalizer;
+
+/**
+ * Tests that a {@code FlashCard}'s {@code Word}, or one of its space-separated parts, is spelt like any of the
+ * keywords given, allowing for a few typos. Case is ignored.
+ */
+public class WordSimilarToKeywordsPredicate implements Predicate<FlashCard> {
+    private static final int SHORT_KEYWORD_LENGTH = 2;
+    private static final int MEDIUM_KEYWORD_LENGTH = 5;
+
+    private final List<String> keywords;
+
+    public WordSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
+    /**
+     * Returns the most typos allowed in {@code keyword}: none up to 2 characters, 1 up to 5 and 2 beyond.
+     */
+    public static int getMaxDistance(String keyword) {
+        if (keyword.length() <= SHORT_KEYWORD_LENGTH) {
+            return 0;
+        } else if (keyword.length() <= MEDIUM_KEYWORD_LENGTH) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    /**
+     * Returns the normalized terms that keywords are compared with: the whole of {@code word},
+     * followed by its space-separated parts if it has more than one.
+     */
+    static List<String> getTerms(Word word) {
+        String normalizedWord = word.getNormalizedWord();
+        List<String> terms = new ArrayList<>();
+        terms.add(normalizedWord);
+        String[] parts = normalizedWord.split("\\s+");
+        if (parts.length > 1) {
+            Collections.addAll(terms, parts);
+        }
+        return terms;
+    }
+
+    @Override
+    public boolean test(FlashCard flashCard) {
+        List<String> terms = getTerms(flashCard.getOriginalWord());
+        terms.addAll(getTerms(flashCard.getTranslatedWord()));
+        for (String keyword : keywords) {
+            String normalizedKeyword = WordNormalizer.normalize(keyword);
+            int maxDistance = getMaxDistance(normalizedKeyword);
+            if (terms.stream().anyMatch(term -> editDistance(normalizedKeyword, term) <= maxDistance)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WordSimilarToKeywordsPredicate)) {
+            return false;
+        }
+
+        WordSimilarToKeywordsPredicate otherWordSimilarToKeywordsPredicate = (WordSimilarToKeywordsPredicate) other;
+        return keywords.equals(otherWordSimilarToKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
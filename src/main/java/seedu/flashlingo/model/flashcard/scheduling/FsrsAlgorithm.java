@@ -0,0 +1,87 @@
+package seedu.flashlingo.model.flashcard.scheduling;
+
+import seedu.flashlingo.model.flashcard.ProficiencyLevel;
+
+/**
+ * Schedules reviews with the Free Spaced Repetition Scheduler (FSRS), using its version 4 default weights.
+ * Each flash card keeps a stability, the number of days after which it is recalled with 90% probability, and a
+ * difficulty from 1 to 10 which slows the growth of its stability. The next review is scheduled for when the
+ * probability of recall is expected to fall to {@value #DESIRED_RETENTION}.
+ */
+public class FsrsAlgorithm implements SchedulingAlgorithm {
+    public static final String NAME = "FSRS";
+    public static final double DESIRED_RETENTION = 0.9;
+
+    private static final double[] WEIGHTS = {0.4, 0.6, 2.4, 5.8, 4.93, 0.94, 0.86, 0.01, 1.49, 0.14, 0.94, 2.18,
+        0.05, 0.34, 1.26, 0.29, 2.61};
+    // Grades on the FSRS scale of 1 (again) to 4 (easy), for a forgotten and a remembered flash card
+    private static final int FAILURE_GRADE = 1;
+    private static final int SUCCESS_GRADE = 3;
+    private static final double MIN_DIFFICULTY = 1;
+    private static final double MAX_DIFFICULTY = 10;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long schedule(ProficiencyLevel level, boolean isSuccess, long elapsed) {
+        int grade = isSuccess ? SUCCESS_GRADE : FAILURE_GRADE;
+        double stability = level.getStability();
+        double difficulty = level.getDifficulty();
+        if (stability <= 0) { // First review under this algorithm
+            level.setStability(WEIGHTS[grade - 1]);
+            level.setDifficulty(getInitialDifficulty(grade));
+        } else {
+            double retrievability = getRetrievability((double) elapsed / DAY_IN_MS, stability);
+            level.setStability(isSuccess
+                    ? getRecallStability(difficulty, stability, retrievability)
+                    : getForgetStability(difficulty, stability, retrievability));
+            level.setDifficulty(getNextDifficulty(difficulty, grade));
+        }
+
+        double intervalInDays = 9 * level.getStability() * (1 / DESIRED_RETENTION - 1);
+        return Math.max(DAY_IN_MS, Math.min(MAX_INTERVAL, Math.round(intervalInDays * DAY_IN_MS)));
+    }
+
+    /**
+     * Returns false, as the intervals of a flash card keep growing with its stability, up to {@link #MAX_INTERVAL}.
+     */
+    @Override
+    public boolean isRetired(ProficiencyLevel level) {
+        return false;
+    }
+
+    /**
+     * Returns the probability of recalling a flash card of {@code stability} after {@code elapsedDays}.
+     */
+    private static double getRetrievability(double elapsedDays, double stability) {
+        return 1 / (1 + elapsedDays / (9 * stability));
+    }
+
+    private static double getInitialDifficulty(int grade) {
+        return clampDifficulty(WEIGHTS[4] - (grade - 3) * WEIGHTS[5]);
+    }
+
+    private static double getNextDifficulty(double difficulty, int grade) {
+        double nextDifficulty = difficulty - WEIGHTS[6] * (grade - 3);
+        // Reverts towards the initial difficulty of a remembered flash card, so difficulties do not get stuck
+        return clampDifficulty(WEIGHTS[7] * getInitialDifficulty(SUCCESS_GRADE) + (1 - WEIGHTS[7]) * nextDifficulty);
+    }
+
+    private static double getRecallStability(double difficulty, double stability, double retrievability) {
+        return stability * (1 + Math.exp(WEIGHTS[8]) * (11 - difficulty) * Math.pow(stability, -WEIGHTS[9])
+                * (Math.exp(WEIGHTS[10] * (1 - retrievability)) - 1));
+    }
+
+    private static double getForgetStability(double difficulty, double stability, double retrievability) {
+        double forgetStability = WEIGHTS[11] * Math.pow(difficulty, -WEIGHTS[12])
+                * (Math.pow(stability + 1, WEIGHTS[13]) - 1) * Math.exp(WEIGHTS[14] * (1 - retrievability));
+        return Math.min(stability, forgetStability);
+    }
+
+    private static double clampDifficulty(double difficulty) {
+        return Math.max(MIN_DIFFICULTY, Math.min(MAX_DIFFICULTY, difficulty));
+    }
+}
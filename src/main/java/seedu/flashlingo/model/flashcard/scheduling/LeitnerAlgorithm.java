@@ -0,0 +1,28 @@
+package seedu.flashlingo.model.flashcard.scheduling;
+
+import seedu.flashlingo.model.flashcard.ProficiencyLevel;
+
+/**
+ * Schedules reviews with the Leitner system, in which the interval to the next review grows by one day with
+ * each level of proficiency. A flash card is taken out of review once it reaches {@link #RETIREMENT_LEVEL}.
+ */
+public class LeitnerAlgorithm implements SchedulingAlgorithm {
+    public static final String NAME = "Leitner";
+    /** The level from which a flash card is no longer reviewed. */
+    public static final int RETIREMENT_LEVEL = 5;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long schedule(ProficiencyLevel level, boolean isSuccess, long elapsed) {
+        return level.calculateNextReviewInterval();
+    }
+
+    @Override
+    public boolean isRetired(ProficiencyLevel level) {
+        return level.getLevel() >= RETIREMENT_LEVEL;
+    }
+}
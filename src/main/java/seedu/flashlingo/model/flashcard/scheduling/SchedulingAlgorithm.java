@@ -0,0 +1,36 @@
+package seedu.flashlingo.model.flashcard.scheduling;
+
+import seedu.flashlingo.model.flashcard.ProficiencyLevel;
+
+/**
+ * Decides when a flash card should next be reviewed, from the outcome of its latest review.
+ * Any state an algorithm keeps between reviews is held in the {@code ProficiencyLevel} of the flash card,
+ * so that it is saved with the flash card.
+ */
+public interface SchedulingAlgorithm {
+    long DAY_IN_MS = 86400000L;
+    /** The longest interval scheduled between two reviews. */
+    long MAX_INTERVAL = 36500 * DAY_IN_MS;
+
+    /**
+     * Returns the name of this algorithm, by which it is chosen in the user prefs.
+     */
+    String getName();
+
+    /**
+     * Updates the scheduling state in {@code level} after a review, and returns the time until the next review.
+     * The level itself has already been upgraded or downgraded for the review.
+     *
+     * @param level The proficiency level of the reviewed flash card.
+     * @param isSuccess Whether the flash card was remembered.
+     * @param elapsed The time since the previous review of the flash card, in milliseconds.
+     * @return the time until the next review, in milliseconds.
+     */
+    long schedule(ProficiencyLevel level, boolean isSuccess, long elapsed);
+
+    /**
+     * Returns true if a flash card at {@code level}, which has just been scheduled by this algorithm, is known well
+     * enough to be taken out of review.
+     */
+    boolean isRetired(ProficiencyLevel level);
+}
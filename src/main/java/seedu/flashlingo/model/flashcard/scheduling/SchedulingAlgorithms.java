@@ -0,0 +1,44 @@
+package seedu.flashlingo.model.flashcard.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Looks up the available scheduling algorithms by name.
+ */
+public class SchedulingAlgorithms {
+    public static final String DEFAULT_NAME = LeitnerAlgorithm.NAME;
+
+    private static final Map<String, SchedulingAlgorithm> ALGORITHMS = createAlgorithms(
+            new LeitnerAlgorithm(), new Sm2Algorithm(), new FsrsAlgorithm());
+
+    private SchedulingAlgorithms() {} // prevents instantiation
+
+    private static Map<String, SchedulingAlgorithm> createAlgorithms(SchedulingAlgorithm... algorithms) {
+        Map<String, SchedulingAlgorithm> byName = new LinkedHashMap<>();
+        for (SchedulingAlgorithm algorithm : algorithms) {
+            byName.put(algorithm.getName().toUpperCase(Locale.ROOT), algorithm);
+        }
+        return Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * Returns the algorithm named {@code name}, ignoring case, if there is one.
+     */
+    public static Optional<SchedulingAlgorithm> forName(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(ALGORITHMS.get(name.toUpperCase(Locale.ROOT)));
+    }
+
+    /**
+     * Returns the algorithm used when none is chosen.
+     */
+    public static SchedulingAlgorithm getDefault() {
+        return ALGORITHMS.get(DEFAULT_NAME.toUpperCase(Locale.ROOT));
+    }
+}
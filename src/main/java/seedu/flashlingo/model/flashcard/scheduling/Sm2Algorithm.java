@@ -0,0 +1,50 @@
+package seedu.flashlingo.model.flashcard.scheduling;
+
+import seedu.flashlingo.model.flashcard.ProficiencyLevel;
+
+/**
+ * Schedules reviews with the SM-2 algorithm of SuperMemo.
+ * Each flash card keeps an ease factor, which falls when it is forgotten and rises when it is remembered.
+ * The first two successful reviews are followed by intervals of 1 and 6 days, and every later interval is the
+ * previous one multiplied by the ease factor. A forgotten flash card starts again from the first interval.
+ */
+public class Sm2Algorithm implements SchedulingAlgorithm {
+    public static final String NAME = "SM-2";
+    public static final double MIN_EASE_FACTOR = 1.3;
+
+    private static final long FIRST_INTERVAL = DAY_IN_MS;
+    private static final long SECOND_INTERVAL = 6 * DAY_IN_MS;
+    // Response qualities on the SM-2 scale of 0 to 5, for a remembered and a forgotten flash card
+    private static final int SUCCESS_QUALITY = 5;
+    private static final int FAILURE_QUALITY = 2;
+    private static final int MAX_QUALITY = 5;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long schedule(ProficiencyLevel level, boolean isSuccess, long elapsed) {
+        int shortfall = MAX_QUALITY - (isSuccess ? SUCCESS_QUALITY : FAILURE_QUALITY);
+        double easeFactor = level.getEaseFactor() + 0.1 - shortfall * (0.08 + shortfall * 0.02);
+        level.setEaseFactor(Math.max(MIN_EASE_FACTOR, easeFactor));
+
+        long lastInterval = level.getLastInterval();
+        if (!isSuccess || lastInterval < FIRST_INTERVAL) {
+            return FIRST_INTERVAL;
+        }
+        if (lastInterval < SECOND_INTERVAL) {
+            return SECOND_INTERVAL;
+        }
+        return Math.min(MAX_INTERVAL, Math.round(lastInterval * level.getEaseFactor()));
+    }
+
+    /**
+     * Returns false, as the intervals of a flash card keep growing with its ease factor, up to {@link #MAX_INTERVAL}.
+     */
+    @Override
+    public boolean isRetired(ProficiencyLevel level) {
+        return false;
+    }
+}
@@ -2,6 +2,8 @@ package seedu.flashlingo.model.flashcard.words;
 
 import static seedu.flashlingo.logic.Messages.MESSAGE_EMPTY_VALUE;
 
+import java.util.Objects;
+
 /**
  * Represents the original word
  *
@@ -60,7 +62,11 @@ public class OriginalWord extends Word {
         }
 
         OriginalWord otherOriginalWord = (OriginalWord) other;
-        return getWord().equalsIgnoreCase(otherOriginalWord.getWord())
-                && getLanguage().equalsIgnoreCase(otherOriginalWord.getLanguage());
+        return isSameWord(otherOriginalWord) && isSameLanguage(otherOriginalWord);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getNormalizedWord(), getNormalizedLanguage());
     }
 }
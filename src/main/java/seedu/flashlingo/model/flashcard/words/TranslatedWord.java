@@ -2,6 +2,8 @@ package seedu.flashlingo.model.flashcard.words;
 
 import static seedu.flashlingo.logic.Messages.MESSAGE_EMPTY_VALUE;
 
+import java.util.Objects;
+
 /**
  * Represents the translated word
  *
@@ -59,7 +61,11 @@ public class TranslatedWord extends Word {
             return false;
         }
         TranslatedWord otherTranslatedWord = (TranslatedWord) other;
-        return getWord().equalsIgnoreCase(otherTranslatedWord.getWord())
-                && getLanguage().equalsIgnoreCase(otherTranslatedWord.getLanguage());
+        return isSameWord(otherTranslatedWord) && isSameLanguage(otherTranslatedWord);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getNormalizedWord(), getNormalizedLanguage());
     }
 }
@@ -13,8 +13,12 @@ public abstract class Word {
     public static final String VALIDATION_REGEX = "[\\p{Alpha} ]*";
     /** The input word **/
     private final String word;
-    /** The input word's language **/
+    /** The input word's language, shared with the other words in the same language **/
     private final String language;
+    /** The input word in the form it is compared in, which is {@code word} itself if that is already normalized **/
+    private final String normalizedWord;
+    /** The input word's language in the form it is compared in, shared with the other words in the language **/
+    private final String normalizedLanguage;
 
     /**
      * Constructs a new Word
@@ -24,7 +28,9 @@ public abstract class Word {
     public Word(String word, String language) {
         requireNonNull(language);
         this.word = word.trim();
-        this.language = language.trim();
+        this.language = WordNormalizer.internLanguage(language.trim());
+        this.normalizedWord = WordNormalizer.normalize(this.word);
+        this.normalizedLanguage = WordNormalizer.internLanguage(WordNormalizer.normalize(this.language));
     }
 
     /**
@@ -53,12 +59,38 @@ public abstract class Word {
     }
 
     /**
-     * Checks whether this word contains a subpart
+     * Evaluates and returns this word in the form it is compared in, as given by {@link WordNormalizer#normalize}
+     * @return The normalized word
+     */
+    public String getNormalizedWord() {
+        return normalizedWord;
+    }
+
+    /**
+     * Evaluates and returns this word's language in the form it is compared in, as given by
+     * {@link WordNormalizer#normalize}. Words in the same language share the same instance.
+     * @return The normalized language
+     */
+    public String getNormalizedLanguage() {
+        return normalizedLanguage;
+    }
+
+    /**
+     * Checks whether this word contains a subpart, ignoring case
      * @param subpart The phrase to check for
      * @return True or False depending on whether this word contains subpart
      */
     public boolean hasSubpart(String subpart) {
-        return this.word.toLowerCase().contains(subpart.toLowerCase());
+        return hasNormalizedSubpart(WordNormalizer.normalize(subpart));
+    }
+
+    /**
+     * Checks whether this word contains a subpart that is already normalized, without allocating
+     * @param normalizedSubpart The normalized phrase to check for
+     * @return True or False depending on whether this word contains normalizedSubpart
+     */
+    public boolean hasNormalizedSubpart(String normalizedSubpart) {
+        return this.normalizedWord.contains(normalizedSubpart);
     }
 
     /**
@@ -67,7 +99,25 @@ public abstract class Word {
      * @return True or False depending on whether this word is in the same language as language
      */
     public boolean isSameLanguage(String language) {
-        return this.language.equalsIgnoreCase(language);
+        return this.normalizedLanguage.equals(WordNormalizer.normalize(language));
+    }
+
+    /**
+     * Checks whether this word is in the same language as another word
+     * @param other The word to check against
+     * @return True or False depending on whether both words are in the same language
+     */
+    public boolean isSameLanguage(Word other) {
+        return this.normalizedLanguage == other.normalizedLanguage;
+    }
+
+    /**
+     * Checks whether this word is spelt the same as another word, ignoring case
+     * @param other The word to check against
+     * @return True or False depending on whether both words are spelt the same
+     */
+    public boolean isSameWord(Word other) {
+        return this.normalizedWord.equals(other.normalizedWord);
     }
 
     /**
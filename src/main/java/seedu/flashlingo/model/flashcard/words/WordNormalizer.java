@@ -0,0 +1,62 @@
+package seedu.flashlingo.model.flashcard.words;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.Normalizer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes the forms in which words and languages are compared, and shares one instance of each language.
+ * Words are compared in their normalized form: composed into Unicode NFC, so that accented letters typed as one
+ * character or as a letter and a combining mark are equal, and then case-folded the same way as
+ * {@link String#equalsIgnoreCase(String)}.
+ */
+public class WordNormalizer {
+
+    // Few distinct languages are ever used, so the pool is not bounded
+    private static final Map<String, String> languagePool = new ConcurrentHashMap<>();
+
+    private WordNormalizer() {} // prevents instantiation
+
+    /**
+     * Returns the normalized form of {@code s}, which is {@code s} itself if it is already normalized.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static String normalize(String s) {
+        requireNonNull(s);
+        String composed = Normalizer.isNormalized(s, Normalizer.Form.NFC)
+                ? s
+                : Normalizer.normalize(s, Normalizer.Form.NFC);
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (fold(c) != c) {
+                return foldFrom(composed, i);
+            }
+        }
+        return composed;
+    }
+
+    /**
+     * Returns the shared instance of a string equal to {@code language}, adding {@code language} to the pool if
+     * there is none.
+     * @throws NullPointerException if {@code language} is null.
+     */
+    public static String internLanguage(String language) {
+        requireNonNull(language);
+        String pooled = languagePool.putIfAbsent(language, language);
+        return pooled == null ? language : pooled;
+    }
+
+    private static String foldFrom(String s, int start) {
+        char[] folded = s.toCharArray();
+        for (int i = start; i < folded.length; i++) {
+            folded[i] = fold(folded[i]);
+        }
+        return new String(folded);
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
@@ -1,7 +1,5 @@
 package seedu.flashlingo.model.util;
 
-import java.util.Date;
-
 import seedu.flashlingo.model.Flashlingo;
 import seedu.flashlingo.model.ReadOnlyFlashlingo;
 import seedu.flashlingo.model.flashcard.FlashCard;
@@ -14,13 +12,14 @@ import seedu.flashlingo.model.flashcard.words.TranslatedWord;
  */
 public class SampleDataUtil {
     public static FlashCard[] getSampleFlashCards() {
+        long now = System.currentTimeMillis();
         return new FlashCard[]{
             new FlashCard(new OriginalWord("Welcome", "English"),
-                new TranslatedWord("欢迎", "Chinese"), new Date(), new ProficiencyLevel(1)),
+                new TranslatedWord("欢迎", "Chinese"), now, new ProficiencyLevel(1)),
             new FlashCard(new OriginalWord("to", "English"), new TranslatedWord("来", "Chinese"),
-                new Date(), new ProficiencyLevel(1)),
+                now, new ProficiencyLevel(1)),
             new FlashCard(new OriginalWord("Flashlingo", "English"),
-                new TranslatedWord("闪邻国", "Chinese"), new Date(), new ProficiencyLevel(1))
+                new TranslatedWord("闪邻国", "Chinese"), now, new ProficiencyLevel(1))
         };
     }
 
@@ -0,0 +1,53 @@
+package seedu.flashlingo.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Optional;
+
+import seedu.flashlingo.model.flashcard.FlashCard;
+
+/**
+ * Represents a review session over a batch of the flash cards that were due when it started.
+ * The batch is taken once, so answering a card only moves on to the next one in the queue.
+ * Forgotten cards can be put back at the end of the queue, to be reviewed again before the session ends.
+ */
+public class ReviewSession {
+    private final Deque<FlashCard> queue;
+    private FlashCard currentCard;
+
+    /**
+     * Creates a session that reviews {@code batch} in order. {@code batch} must not be empty.
+     */
+    public ReviewSession(Collection<FlashCard> batch) {
+        requireNonNull(batch);
+        assert !batch.isEmpty() : "A review session needs a card to review";
+        queue = new ArrayDeque<>(batch);
+        currentCard = queue.pollFirst();
+    }
+
+    /**
+     * Returns the card under review, or {@code Optional.empty()} if every card of the session has been reviewed.
+     */
+    public Optional<FlashCard> getCurrentCard() {
+        return Optional.ofNullable(currentCard);
+    }
+
+    /**
+     * Moves on to the next card, putting the current card back at the end of the queue if {@code isRequeued}.
+     *
+     * @return true if there is a card left to review.
+     */
+    public boolean advance(boolean isRequeued) {
+        if (currentCard == null) {
+            return false;
+        }
+        if (isRequeued) {
+            queue.addLast(currentCard);
+        }
+        currentCard = queue.pollFirst();
+        return currentCard != null;
+    }
+}
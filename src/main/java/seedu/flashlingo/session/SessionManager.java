@@ -1,27 +1,43 @@
 package seedu.flashlingo.session;
 
+import java.util.Optional;
+
 /**
- * The SessionManager class implements the Session interface and is responsible for managing language learning sessions.
+ * Keeps the session state of one model, which is whether a review session is in progress and its flash cards.
+ * Each model has its own {@code SessionManager}, so that the sessions of different models are independent.
+ * The state is published through volatile fields, so that it can be read from threads other than the one
+ * executing the commands of the model, such as the UI thread.
  */
 public class SessionManager {
-    private static SessionManager instance = null;
-    private static boolean isReviewSession = false;
+    private volatile ReviewSession reviewSession;
+    private volatile boolean isReviewSession;
 
-    private SessionManager() {
-        // Private constructor to prevent external instantiation.
+    public boolean isReviewSession() {
+        return isReviewSession;
     }
 
-    public static SessionManager getInstance() {
-        if (instance == null) {
-            instance = new SessionManager();
-        }
-        return instance;
+    /**
+     * Starts {@code reviewSession}, replacing any review session in progress.
+     */
+    public void startReviewSession(ReviewSession reviewSession) {
+        // Publishes the session before the flag, so that a thread which sees the flag also sees the session.
+        this.reviewSession = reviewSession;
+        isReviewSession = true;
     }
-    public void setSession(boolean editedReivewSession) {
-        isReviewSession = editedReivewSession;
+
+    /**
+     * Ends the review session in progress, if any.
+     */
+    public void endSession() {
+        // Clears the flag before the session, so that a thread which sees the flag still sees the session.
+        isReviewSession = false;
+        reviewSession = null;
     }
-    public boolean isReviewSession() {
-        return isReviewSession;
+
+    /**
+     * Returns the review session in progress, if any.
+     */
+    public Optional<ReviewSession> getReviewSession() {
+        return Optional.ofNullable(reviewSession);
     }
 }
-
@@ -0,0 +1,200 @@
+package seedu.flashlingo.storage;
+
+import static seedu.flashlingo.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.flashlingo.commons.core.LogsCenter;
+import seedu.flashlingo.commons.exceptions.DataLoadingException;
+import seedu.flashlingo.commons.util.StringUtil;
+import seedu.flashlingo.model.ReadOnlyFlashlingo;
+import seedu.flashlingo.model.ReadOnlyUserPrefs;
+import seedu.flashlingo.model.UserPrefs;
+
+/**
+ * Wraps a {@code Storage} so that saving only takes a snapshot of the data, leaving the writing to a
+ * dedicated writer thread. Saves made while the writer is busy are coalesced, so only the latest snapshot
+ * of the Flashlingo data and of the user prefs is written.
+ * A write that fails is reported by the next call to a save method or to {@link #flush()}.
+ */
+public class AsyncStorage implements Storage {
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer;
+
+    // Guarded by this
+    private final Map<Path, ReadOnlyFlashlingo> pendingFlashlingos = new LinkedHashMap<>();
+    private ReadOnlyUserPrefs pendingUserPrefs;
+    private boolean isWriting; // True while the writer has pending snapshots or is writing them
+    private IOException failure; // Earliest failed write that has not been reported
+
+    /**
+     * Creates an {@code AsyncStorage} that writes to {@code storage} on its own writer thread.
+     */
+    public AsyncStorage(Storage storage) {
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Storage writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        awaitWrites();
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        UserPrefs snapshot = new UserPrefs(userPrefs);
+        synchronized (this) {
+            pendingUserPrefs = snapshot;
+            scheduleWrite();
+            reportFailure();
+        }
+    }
+
+    // ================ Flashlingo methods ==============================
+
+    @Override
+    public Path getFlashlingoFilePath() {
+        return storage.getFlashlingoFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashlingo> readFlashlingo() throws DataLoadingException {
+        return readFlashlingo(storage.getFlashlingoFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashlingo> readFlashlingo(Path filePath) throws DataLoadingException {
+        awaitWrites();
+        return storage.readFlashlingo(filePath);
+    }
+
+    @Override
+    public void saveFlashlingo(ReadOnlyFlashlingo flashlingo) throws IOException {
+        saveFlashlingo(flashlingo, storage.getFlashlingoFilePath());
+    }
+
+    @Override
+    public void saveFlashlingo(ReadOnlyFlashlingo flashlingo, Path filePath) throws IOException {
+        requireAllNonNull(flashlingo, filePath);
+        ReadOnlyFlashlingo snapshot = flashlingo.snapshot();
+        synchronized (this) {
+            pendingFlashlingos.put(filePath, snapshot);
+            scheduleWrite();
+            reportFailure();
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        waitUntilWritten();
+        reportFailure();
+    }
+
+    /**
+     * Waits for pending writes before reading, so that the data read includes everything saved so far.
+     */
+    private void awaitWrites() throws DataLoadingException {
+        try {
+            synchronized (this) {
+                waitUntilWritten();
+            }
+        } catch (InterruptedIOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private void waitUntilWritten() throws InterruptedIOException {
+        assert Thread.holdsLock(this);
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data to be written");
+            }
+        }
+    }
+
+    private void scheduleWrite() {
+        assert Thread.holdsLock(this);
+        if (!isWriting) {
+            isWriting = true;
+            writer.execute(this::writePending);
+        }
+    }
+
+    private void reportFailure() throws IOException {
+        assert Thread.holdsLock(this);
+        if (failure != null) {
+            IOException reported = failure;
+            failure = null;
+            throw reported;
+        }
+    }
+
+    /**
+     * Writes the latest snapshots on the writer thread until no more are pending.
+     */
+    private void writePending() {
+        while (true) {
+            Map<Path, ReadOnlyFlashlingo> flashlingos;
+            ReadOnlyUserPrefs userPrefs;
+            synchronized (this) {
+                if (pendingFlashlingos.isEmpty() && pendingUserPrefs == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                flashlingos = new LinkedHashMap<>(pendingFlashlingos);
+                pendingFlashlingos.clear();
+                userPrefs = pendingUserPrefs;
+                pendingUserPrefs = null;
+            }
+
+            for (Map.Entry<Path, ReadOnlyFlashlingo> entry : flashlingos.entrySet()) {
+                try {
+                    storage.saveFlashlingo(entry.getValue(), entry.getKey());
+                } catch (IOException | RuntimeException e) {
+                    recordFailure(e);
+                }
+            }
+            if (userPrefs != null) {
+                try {
+                    storage.saveUserPrefs(userPrefs);
+                } catch (IOException | RuntimeException e) {
+                    recordFailure(e);
+                }
+            }
+        }
+    }
+
+    private synchronized void recordFailure(Exception e) {
+        logger.warning("Failed to write data in the background: " + StringUtil.getDetails(e));
+        if (failure == null) {
+            failure = e instanceof IOException ? (IOException) e : new IOException(e);
+        }
+    }
+
+}
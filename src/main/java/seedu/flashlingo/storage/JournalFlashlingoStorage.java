@@ -0,0 +1,236 @@
+package seedu.flashlingo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.flashlingo.commons.core.LogsCenter;
+import seedu.flashlingo.commons.exceptions.DataLoadingException;
+import seedu.flashlingo.commons.exceptions.IllegalValueException;
+import seedu.flashlingo.commons.util.FileUtil;
+import seedu.flashlingo.commons.util.JsonUtil;
+import seedu.flashlingo.model.FlashCardChange;
+import seedu.flashlingo.model.Flashlingo;
+import seedu.flashlingo.model.ReadOnlyFlashlingo;
+import seedu.flashlingo.model.flashcard.FlashCard;
+
+/**
+ * Represents a storage for {@link Flashlingo} that keeps a JSON snapshot plus an append-only journal.
+ * Saving a flashlingo whose earlier version was saved by this storage only appends one record per change to the
+ * journal, so the cost of a save does not depend on the number of flash cards. The journal is replayed on top of
+ * the snapshot when reading, and is compacted into a new snapshot once it holds too many records.
+ */
+public class JournalFlashlingoStorage implements FlashlingoStorage {
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final Logger logger = LogsCenter.getLogger(JournalFlashlingoStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final JsonFlashlingoStorage snapshotStorage;
+
+    // State of the last successful save, used to find out which changes still have to be journaled
+    private Path lastSavedFilePath;
+    private long lastSavedVersion;
+    private int journalLength;
+
+    public JournalFlashlingoStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that compacts its journal after {@code compactionThreshold} records.
+     */
+    public JournalFlashlingoStorage(Path filePath, int compactionThreshold) {
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new JsonFlashlingoStorage(filePath);
+    }
+
+    @Override
+    public Path getFlashlingoFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return getJournalFilePath(filePath);
+    }
+
+    private static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyFlashlingo> readFlashlingo() throws DataLoadingException {
+        return readFlashlingo(filePath);
+    }
+
+    /**
+     * Functions similarly to {@link #readFlashlingo()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyFlashlingo> readFlashlingo(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Optional<ReadOnlyFlashlingo> snapshot = snapshotStorage.readFlashlingo(filePath);
+        if (!snapshot.isPresent() && !FileUtil.isFileExists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        Flashlingo flashlingo = snapshot.map(Flashlingo::new).orElseGet(Flashlingo::new);
+        if (FileUtil.isFileExists(journalFilePath)) {
+            replayJournal(journalFilePath, flashlingo);
+        }
+        return Optional.of(flashlingo);
+    }
+
+    /**
+     * Applies every record in the journal at {@code journalFilePath} to {@code flashlingo}.
+     * An unreadable last record is skipped, as it can only come from a write that was interrupted.
+     */
+    private static void replayJournal(Path journalFilePath, Flashlingo flashlingo) throws DataLoadingException {
+        List<String> records;
+        try {
+            records = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 0; i < records.size(); i++) {
+            String record = records.get(i);
+            if (record.isEmpty()) {
+                continue;
+            }
+            try {
+                applyChange(flashlingo, JsonUtil.fromJsonString(record, JsonAdaptedFlashCardChange.class)
+                        .toModelType());
+            } catch (IOException e) {
+                if (i == records.size() - 1) {
+                    logger.warning("Ignoring incomplete last record in " + journalFilePath);
+                    break;
+                }
+                logger.warning("Error reading record " + (i + 1) + " of " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+    }
+
+    /**
+     * Applies {@code change} to {@code flashlingo}.
+     * Changes that are already reflected in {@code flashlingo} are tolerated, so records left behind by an
+     * interrupted compaction can safely be replayed again on top of the new snapshot.
+     */
+    private static void applyChange(Flashlingo flashlingo, FlashCardChange change) {
+        FlashCard flashCard = change.getFlashCard();
+        switch (change.getType()) {
+        case ADD:
+        case LEVEL:
+            putFlashCard(flashlingo, flashCard);
+            break;
+        case EDIT:
+            FlashCard target = change.getTarget();
+            if (flashlingo.hasFlashCard(target)
+                    && (target.isSameFlashCard(flashCard) || !flashlingo.hasFlashCard(flashCard))) {
+                flashlingo.setFlashCard(target, flashCard);
+                break;
+            }
+            if (flashlingo.hasFlashCard(target)) {
+                flashlingo.removeFlashCard(target);
+            }
+            putFlashCard(flashlingo, flashCard);
+            break;
+        case DELETE:
+            if (flashlingo.hasFlashCard(flashCard)) {
+                flashlingo.removeFlashCard(flashCard);
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown change type: " + change.getType());
+        }
+    }
+
+    private static void putFlashCard(Flashlingo flashlingo, FlashCard flashCard) {
+        if (flashlingo.hasFlashCard(flashCard)) {
+            flashlingo.setFlashCard(flashCard, flashCard);
+        } else {
+            flashlingo.addFlashCard(flashCard);
+        }
+    }
+
+    @Override
+    public void saveFlashlingo(ReadOnlyFlashlingo flashlingo) throws IOException {
+        saveFlashlingo(flashlingo, filePath);
+    }
+
+    /**
+     * Functions similarly to {@link #saveFlashlingo(ReadOnlyFlashlingo)}.
+     * Writes a new snapshot instead of appending to the journal if the last version saved to {@code filePath}
+     * is not an earlier version of {@code flashlingo}, if the changes since then are no longer recorded, or if
+     * the journal is full.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveFlashlingo(ReadOnlyFlashlingo flashlingo, Path filePath) throws IOException {
+        requireNonNull(flashlingo);
+        requireNonNull(filePath);
+
+        long version = flashlingo.getVersion();
+        Optional<List<FlashCardChange>> changes = filePath.equals(lastSavedFilePath)
+                ? flashlingo.getChangesSince(lastSavedVersion)
+                : Optional.empty();
+
+        // Forget the last save until this one succeeds, so a failed append is followed by a full snapshot
+        lastSavedFilePath = null;
+        if (changes.isPresent() && journalLength + changes.get().size() <= compactionThreshold) {
+            appendToJournal(changes.get(), filePath);
+        } else {
+            writeSnapshot(flashlingo, filePath);
+        }
+
+        lastSavedFilePath = filePath;
+        lastSavedVersion = version;
+    }
+
+    private void appendToJournal(List<FlashCardChange> changes, Path filePath) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (FlashCardChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedFlashCardChange(change))).append('\n');
+        }
+        Files.write(getJournalFilePath(filePath), records.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalLength += changes.size();
+    }
+
+    /**
+     * Replaces the snapshot at {@code filePath} with {@code flashlingo} and clears its journal.
+     */
+    private void writeSnapshot(ReadOnlyFlashlingo flashlingo, Path filePath) throws IOException {
+        snapshotStorage.saveFlashlingo(flashlingo, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        journalLength = 0;
+    }
+
+}
@@ -1,17 +1,22 @@
 package seedu.flashlingo.storage;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.Date;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.flashlingo.commons.exceptions.IllegalValueException;
 import seedu.flashlingo.model.flashcard.FlashCard;
 import seedu.flashlingo.model.flashcard.ProficiencyLevel;
+import seedu.flashlingo.model.flashcard.scheduling.LeitnerAlgorithm;
 import seedu.flashlingo.model.flashcard.words.OriginalWord;
 import seedu.flashlingo.model.flashcard.words.TranslatedWord;
 
@@ -21,13 +26,30 @@ import seedu.flashlingo.model.flashcard.words.TranslatedWord;
 public class JsonAdaptedFlashCard {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Flash card's %s field is missing!";
     public static final String INVALID_DATE_FORMAT_MESSAGE = "Invalid date format.";
+    public static final String WHEN_TO_REVIEW_FIELD_NAME = "Date";
     public static final String DATE_PATTERN = "yyyy-MM-dd'T'HH:mm:ssX";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
     private final String originalWord;
     private final String originalWordLanguage;
     private final String translatedWord;
     private final String translatedWordLanguage;
     private final String whenToReview;
     private final int level;
+    // Scheduling state, which is missing from files saved before it was kept
+    private final Double easeFactor;
+    private final Double stability;
+    private final Double difficulty;
+    private final Long lastInterval;
+    private final Boolean retired;
+
+    /**
+     * Constructs a {@code JsonAdaptedFlashCard} with the given flash card details and no scheduling state.
+     */
+    public JsonAdaptedFlashCard(String originalWord, String originalWordLanguage, String translatedWord,
+                                String translatedWordLanguage, String whenToReview, int level) {
+        this(originalWord, originalWordLanguage, translatedWord, translatedWordLanguage, whenToReview, level,
+                null, null, null, null, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedFlashCard} with the given flash card details.
@@ -38,13 +60,23 @@ public class JsonAdaptedFlashCard {
                                 @JsonProperty("translatedWord") String translatedWord,
                                 @JsonProperty("translatedWordLanguage") String translatedWordLanguage,
                                 @JsonProperty("whenToReview") String whenToReview,
-                                @JsonProperty("level") int level) {
+                                @JsonProperty("level") int level,
+                                @JsonProperty("easeFactor") Double easeFactor,
+                                @JsonProperty("stability") Double stability,
+                                @JsonProperty("difficulty") Double difficulty,
+                                @JsonProperty("lastInterval") Long lastInterval,
+                                @JsonProperty("retired") Boolean retired) {
         this.originalWord = originalWord;
         this.originalWordLanguage = originalWordLanguage;
         this.translatedWord = translatedWord;
         this.translatedWordLanguage = translatedWordLanguage;
         this.whenToReview = whenToReview;
         this.level = level;
+        this.easeFactor = easeFactor;
+        this.stability = stability;
+        this.difficulty = difficulty;
+        this.lastInterval = lastInterval;
+        this.retired = retired;
     }
 
     /**
@@ -56,11 +88,99 @@ public class JsonAdaptedFlashCard {
         translatedWord = source.getTranslatedWord().getWord();
         translatedWordLanguage = source.getTranslatedWord().getLanguage();
         level = source.getProficiencyLevel().getLevel();
+        whenToReview = formatWhenToReview(source.getWhenToReview());
+        easeFactor = source.getProficiencyLevel().getEaseFactor();
+        stability = source.getProficiencyLevel().getStability();
+        difficulty = source.getProficiencyLevel().getDifficulty();
+        lastInterval = source.getProficiencyLevel().getLastInterval();
+        retired = source.getProficiencyLevel().isDeletedFromReview();
+    }
 
-        Date whenToReview = source.getWhenToReview();
-        ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(whenToReview.toInstant(), ZoneOffset.UTC);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_PATTERN);
-        this.whenToReview = formatter.format(zonedDateTime);
+    private static String formatWhenToReview(long whenToReview) {
+        return DATE_FORMATTER.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(whenToReview), ZoneOffset.UTC));
+    }
+
+    /**
+     * Reads the fields of one flash card object from {@code parser}, which must be positioned at the start of
+     * the object. Unknown fields are skipped and missing fields are left to {@link #toModelType()} to report.
+     *
+     * @throws IOException if the object is not valid JSON.
+     */
+    public static JsonAdaptedFlashCard read(JsonParser parser) throws IOException {
+        String originalWord = null;
+        String originalWordLanguage = null;
+        String translatedWord = null;
+        String translatedWordLanguage = null;
+        String whenToReview = null;
+        int level = 0;
+        Double easeFactor = null;
+        Double stability = null;
+        Double difficulty = null;
+        Long lastInterval = null;
+        Boolean retired = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "originalWord":
+                originalWord = parser.getValueAsString();
+                break;
+            case "originalWordLanguage":
+                originalWordLanguage = parser.getValueAsString();
+                break;
+            case "translatedWord":
+                translatedWord = parser.getValueAsString();
+                break;
+            case "translatedWordLanguage":
+                translatedWordLanguage = parser.getValueAsString();
+                break;
+            case "whenToReview":
+                whenToReview = parser.getValueAsString();
+                break;
+            case "level":
+                level = parser.getValueAsInt();
+                break;
+            case "easeFactor":
+                easeFactor = parser.getValueAsDouble();
+                break;
+            case "stability":
+                stability = parser.getValueAsDouble();
+                break;
+            case "difficulty":
+                difficulty = parser.getValueAsDouble();
+                break;
+            case "lastInterval":
+                lastInterval = parser.getValueAsLong();
+                break;
+            case "retired":
+                retired = parser.getValueAsBoolean();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new JsonAdaptedFlashCard(originalWord, originalWordLanguage, translatedWord, translatedWordLanguage,
+                whenToReview, level, easeFactor, stability, difficulty, lastInterval, retired);
+    }
+
+    /**
+     * Writes {@code source} as one flash card object to {@code generator}, in the same format as this class.
+     */
+    public static void write(FlashCard source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("originalWord", source.getOriginalWord().getWord());
+        generator.writeStringField("originalWordLanguage", source.getOriginalWord().getLanguage());
+        generator.writeStringField("translatedWord", source.getTranslatedWord().getWord());
+        generator.writeStringField("translatedWordLanguage", source.getTranslatedWord().getLanguage());
+        generator.writeStringField("whenToReview", formatWhenToReview(source.getWhenToReview()));
+        generator.writeNumberField("level", source.getProficiencyLevel().getLevel());
+        generator.writeNumberField("easeFactor", source.getProficiencyLevel().getEaseFactor());
+        generator.writeNumberField("stability", source.getProficiencyLevel().getStability());
+        generator.writeNumberField("difficulty", source.getProficiencyLevel().getDifficulty());
+        generator.writeNumberField("lastInterval", source.getProficiencyLevel().getLastInterval());
+        generator.writeBooleanField("retired", source.getProficiencyLevel().isDeletedFromReview());
+        generator.writeEndObject();
     }
 
     //Solution below adapted by AB-3 JsonAdaptedPerson.java
@@ -86,25 +206,35 @@ public class JsonAdaptedFlashCard {
 
         if (whenToReview == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-              Date.class.getSimpleName()));
+              WHEN_TO_REVIEW_FIELD_NAME));
         }
+        final long modelWhenToReview;
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_PATTERN);
-            ZonedDateTime.parse(whenToReview, formatter);
+            modelWhenToReview = ZonedDateTime.parse(whenToReview, DATE_FORMATTER).toInstant().toEpochMilli();
         } catch (DateTimeParseException e) {
             throw new IllegalValueException(INVALID_DATE_FORMAT_MESSAGE);
         }
 
-        final Date modelWhenToReview = Date.from(ZonedDateTime.parse(whenToReview).toInstant());
-
         if (!ProficiencyLevel.isValidProficiencyLevel(level)) {
             throw new IllegalValueException(ProficiencyLevel.MESSAGE_CONSTRAINTS);
         }
 
         final int modelLevel = level;
 
+        final double modelEaseFactor = easeFactor == null ? ProficiencyLevel.DEFAULT_EASE_FACTOR : easeFactor;
+        final double modelStability = stability == null ? 0 : stability;
+        final double modelDifficulty = difficulty == null ? 0 : difficulty;
+        final long modelLastInterval = lastInterval == null ? 0 : lastInterval;
+        if (!ProficiencyLevel.isValidSchedulingState(modelEaseFactor, modelStability, modelDifficulty,
+                modelLastInterval)) {
+            throw new IllegalValueException(ProficiencyLevel.MESSAGE_STATE_CONSTRAINTS);
+        }
+        // Flash cards saved before the algorithm decided it were retired from the Leitner retirement level
+        final boolean modelRetired = retired == null ? modelLevel >= LeitnerAlgorithm.RETIREMENT_LEVEL : retired;
+
         return new FlashCard(new OriginalWord(modelOriginalWord, modelOriginalWordLanguage),
             new TranslatedWord(modelTranslatedWord, modelTranslatedWordLanguage),
-          modelWhenToReview, new ProficiencyLevel(modelLevel));
+          modelWhenToReview, new ProficiencyLevel(modelLevel, modelEaseFactor, modelStability, modelDifficulty,
+                modelLastInterval, modelRetired));
     }
 }
@@ -0,0 +1,72 @@
+package seedu.flashlingo.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.flashlingo.commons.exceptions.IllegalValueException;
+import seedu.flashlingo.model.FlashCardChange;
+
+/**
+ * Jackson-friendly version of {@link FlashCardChange}, stored as one record of the flashlingo journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedFlashCardChange {
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String INVALID_TYPE_MESSAGE = "Unknown journal record type: %s";
+    public static final String UNEXPECTED_TARGET_MESSAGE = "Only edit records have a target flash card!";
+
+    private final String type;
+    private final JsonAdaptedFlashCard target;
+    private final JsonAdaptedFlashCard flashCard;
+
+    /**
+     * Constructs a {@code JsonAdaptedFlashCardChange} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedFlashCardChange(@JsonProperty("type") String type,
+                                      @JsonProperty("target") JsonAdaptedFlashCard target,
+                                      @JsonProperty("flashCard") JsonAdaptedFlashCard flashCard) {
+        this.type = type;
+        this.target = target;
+        this.flashCard = flashCard;
+    }
+
+    /**
+     * Converts a given {@code FlashCardChange} into this class for Jackson use.
+     */
+    public JsonAdaptedFlashCardChange(FlashCardChange source) {
+        type = source.getType().name();
+        target = source.getTarget() == null ? null : new JsonAdaptedFlashCard(source.getTarget());
+        flashCard = new JsonAdaptedFlashCard(source.getFlashCard());
+    }
+
+    /**
+     * Converts this Jackson-friendly journal record into the model's {@code FlashCardChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public FlashCardChange toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        if (flashCard == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "flashCard"));
+        }
+
+        final FlashCardChange.Type modelType;
+        try {
+            modelType = FlashCardChange.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(INVALID_TYPE_MESSAGE, type));
+        }
+        if (modelType == FlashCardChange.Type.EDIT && target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        if (modelType != FlashCardChange.Type.EDIT && target != null) {
+            throw new IllegalValueException(UNEXPECTED_TARGET_MESSAGE);
+        }
+
+        return new FlashCardChange(modelType, target == null ? null : target.toModelType(), flashCard.toModelType());
+    }
+}
@@ -5,10 +5,14 @@ package seedu.flashlingo.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.flashlingo.commons.core.LogsCenter;
 import seedu.flashlingo.commons.exceptions.DataLoadingException;
 import seedu.flashlingo.commons.exceptions.IllegalValueException;
@@ -45,15 +49,16 @@ public class JsonFlashlingoStorage implements FlashlingoStorage {
     public Optional<ReadOnlyFlashlingo> readFlashlingo(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFlashlingo> jsonFlashlingo = JsonUtil.readJsonFile(
-            filePath, JsonSerializableFlashlingo.class);
-        if (!jsonFlashlingo.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            ReadOnlyFlashlingo flashlingo = jsonFlashlingo.get().toModelType();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            ReadOnlyFlashlingo flashlingo = JsonSerializableFlashlingo.read(parser);
             return Optional.of(flashlingo);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,8 +79,12 @@ public class JsonFlashlingoStorage implements FlashlingoStorage {
         requireNonNull(flashlingo);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFlashlingo(flashlingo), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempFile(filePath);
+        try (JsonGenerator generator = JsonUtil.createGenerator(tempFilePath)) {
+            JsonSerializableFlashlingo.write(flashlingo, generator);
+        }
+        FileUtil.replaceFile(tempFilePath, filePath);
     }
 
 }
@@ -2,6 +2,7 @@
 //Reused from AB-3 JsonSerializableAddressBook.java with minor modifications
 package seedu.flashlingo.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -9,6 +10,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.flashlingo.commons.exceptions.IllegalValueException;
 import seedu.flashlingo.model.Flashlingo;
@@ -21,6 +26,7 @@ import seedu.flashlingo.model.flashcard.FlashCard;
 @JsonRootName(value = "flashlingo")
 class JsonSerializableFlashlingo {
     public static final String MESSAGE_DUPLICATE_FLASHCARD = "Flashcards list contains duplicate flashcard(s).";
+    private static final String FLASHCARDS_FIELD = "flashcards";
     private final List<JsonAdaptedFlashCard> flashcards = new ArrayList<>();
 
     /**
@@ -58,4 +64,54 @@ class JsonSerializableFlashlingo {
         return flashlingo;
     }
 
+    /**
+     * Reads a {@code Flashlingo} in the format of this class from {@code parser}, adding each flash card to it
+     * as soon as the card is parsed, without holding the whole file or a list of adapted flash cards in memory.
+     *
+     * @throws IOException if the data is not valid JSON in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Flashlingo read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException("Expected a flashlingo object", parser.getCurrentLocation());
+        }
+
+        Flashlingo flashlingo = new Flashlingo();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!FLASHCARDS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException("Expected a list of flashcards", parser.getCurrentLocation());
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                FlashCard flashCard = JsonAdaptedFlashCard.read(parser).toModelType();
+                if (flashlingo.hasFlashCard(flashCard)) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_FLASHCARD);
+                }
+                flashlingo.addFlashCard(flashCard);
+            }
+            if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException("Expected a flashcard object", parser.getCurrentLocation());
+            }
+        }
+        return flashlingo;
+    }
+
+    /**
+     * Writes {@code source} in the format of this class to {@code generator}, one flash card at a time.
+     */
+    public static void write(ReadOnlyFlashlingo source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(FLASHCARDS_FIELD);
+        for (FlashCard flashCard : source.getFlashCardList()) {
+            JsonAdaptedFlashCard.write(flashCard, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
@@ -31,4 +31,10 @@ public interface Storage extends FlashlingoStorage, UserPrefsStorage {
     @Override
     void saveFlashlingo(ReadOnlyFlashlingo flashlingo) throws IOException;
 
+    /**
+     * Waits until all data saved so far has been written to the files.
+     * @throws IOException if any of those writes failed and the failure has not been reported yet.
+     */
+    void flush() throws IOException;
+
 }
@@ -75,4 +75,9 @@ public class StorageManager implements Storage {
         flashlingoStorage.saveFlashlingo(flashlingo, filePath);
     }
 
+    @Override
+    public void flush() {
+        // Data is written as soon as it is saved, so there is nothing to wait for
+    }
+
 }
@@ -9,7 +9,6 @@ import javafx.scene.layout.Region;
 import seedu.flashlingo.logic.commands.exceptions.CommandException;
 import seedu.flashlingo.logic.parser.exceptions.ParseException;
 import seedu.flashlingo.model.flashcard.FlashCard;
-import seedu.flashlingo.session.SessionManager;
 
 /**
  * An UI component that displays information of a {@code FlashCard}.
@@ -29,7 +28,7 @@ public class FlashcardBox extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final FlashCard flashCard;
+    private FlashCard flashCard;
 
     @FXML
     private HBox cardPane;
@@ -52,19 +51,26 @@ public class FlashcardBox extends UiPart<Region> {
     private int index;
 
     /**
-     * Creates a {@code FlashCard code} with the given {@code FlashCard} and index to display.
+     * Creates an empty {@code FlashcardBox}, which shows a flash card once one is set.
      */
-    public FlashcardBox(FlashCard fc, int displayedIndex, MainWindow mw) {
+    public FlashcardBox(MainWindow mw) {
         super(FXML);
-        // Ensure that FlashCard with buttons is only created when in review session
+        this.mw = mw;
+        original.setWrapText(true);
+        translation.setWrapText(true);
+    }
+
+    /**
+     * Shows {@code fc} with the index {@code displayedIndex} in place of the flash card shown before,
+     * so that the box can be reused without loading its FXML again.
+     */
+    public void setFlashCard(FlashCard fc, int displayedIndex) {
+        // Ensure that FlashCard with buttons is only shown when in review session
         //@@author itsNatTan
-        assert(SessionManager.getInstance().isReviewSession());
+        assert(mw.isReviewSession());
         //@@author itsNatTan
         this.flashCard = fc;
-        this.mw = mw;
         this.index = displayedIndex;
-        original.setWrapText(true);
-        translation.setWrapText(true);
         id.setText(displayedIndex + ") ");
         original.setText(fc.getOriginalWord().getWord() + ": ");
         if (fc.getIsRevealed()) {
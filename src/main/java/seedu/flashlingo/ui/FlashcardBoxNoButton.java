@@ -9,7 +9,6 @@ import javafx.scene.layout.Region;
 import seedu.flashlingo.logic.commands.exceptions.CommandException;
 import seedu.flashlingo.logic.parser.exceptions.ParseException;
 import seedu.flashlingo.model.flashcard.FlashCard;
-import seedu.flashlingo.session.SessionManager;
 
 /**
  * An UI component that displays information of a {@code FlashCard}.
@@ -29,7 +28,7 @@ public class FlashcardBoxNoButton extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final FlashCard flashCard;
+    private FlashCard flashCard;
 
     @FXML
     private HBox cardPane;
@@ -51,16 +50,23 @@ public class FlashcardBoxNoButton extends UiPart<Region> {
     private int index;
 
     /**
-     * Creates a {@code FlashCard code} with the given {@code FlashCard} and index to display.
+     * Creates an empty {@code FlashcardBoxNoButton}, which shows a flash card once one is set.
      */
-    public FlashcardBoxNoButton(FlashCard fc, int displayedIndex, MainWindow mw) {
+    public FlashcardBoxNoButton(MainWindow mw) {
         super(FXML);
-        this.flashCard = fc;
         this.mw = mw;
-        this.index = displayedIndex;
         original.setWrapText(true);
         translation.setWrapText(true);
-        assert(!SessionManager.getInstance().isReviewSession());
+    }
+
+    /**
+     * Shows {@code fc} with the index {@code displayedIndex} in place of the flash card shown before,
+     * so that the box can be reused without loading its FXML again.
+     */
+    public void setFlashCard(FlashCard fc, int displayedIndex) {
+        assert(!mw.isReviewSession());
+        this.flashCard = fc;
+        this.index = displayedIndex;
         id.setText(displayedIndex + ") ");
         original.setText(fc.getOriginalWord().getWord() + ": ");
         if (fc.getIsRevealed()) {
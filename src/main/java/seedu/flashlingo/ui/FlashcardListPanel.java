@@ -1,6 +1,9 @@
 //@@author itsNatTan
 package seedu.flashlingo.ui;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,7 +13,6 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.flashlingo.commons.core.LogsCenter;
 import seedu.flashlingo.model.flashcard.FlashCard;
-import seedu.flashlingo.session.SessionManager;
 
 /**
  * Panel containing the list of flash cards.
@@ -22,6 +24,8 @@ public class FlashcardListPanel extends UiPart<Region> {
     @FXML
     private ListView<FlashCard> flashcardListView;
     private MainWindow mw;
+    // Weakly held, so that cells discarded by the list view are not kept alive
+    private final Set<FlashCardListViewCell> cells = Collections.newSetFromMap(new WeakHashMap<>());
 
     /**
      * Creates a {@code FlashCardsListPanel} with the given {@code ObservableList}.
@@ -30,16 +34,41 @@ public class FlashcardListPanel extends UiPart<Region> {
         super(FXML);
         this.mw = mw;
         flashcardListView.setItems(flashcardList);
-        flashcardListView.setCellFactory(listView -> new FlashCardListViewCell());
+        flashcardListView.setCellFactory(listView -> {
+            FlashCardListViewCell cell = new FlashCardListViewCell();
+            cells.add(cell);
+            return cell;
+        });
     }
 
-    public void update() {
-        flashcardListView.setCellFactory(listView -> new FlashCardListViewCell());
+    /**
+     * Shows {@code flashcardList}, which only changes when a review session starts or ends, and redraws the cells,
+     * so that they show changes to their flash cards and the current mode.
+     * Unlike {@link ListView#refresh()}, which makes the list view recreate all its cells, the existing cells are
+     * kept and only rebound to their flash cards.
+     */
+    public void update(ObservableList<FlashCard> flashcardList) {
+        flashcardListView.setItems(flashcardList);
+        for (FlashCardListViewCell cell : cells) {
+            cell.rebind();
+        }
     }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code flash card} using a {@code FlashCard}.
+     * Each cell loads the box of each mode at most once, and reuses it for every flash card it shows in that mode.
      */
     class FlashCardListViewCell extends ListCell<FlashCard> {
+        private FlashcardBox reviewBox;
+        private FlashcardBoxNoButton browseBox;
+
+        /**
+         * Shows the flash card of this cell again, in the current mode.
+         */
+        void rebind() {
+            updateItem(getItem(), isEmpty());
+        }
+
         @Override
         protected void updateItem(FlashCard fc, boolean empty) {
             super.updateItem(fc, empty);
@@ -48,10 +77,18 @@ public class FlashcardListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                if (SessionManager.getInstance().isReviewSession()) {
-                    setGraphic(new FlashcardBox(fc, getIndex() + 1, mw).getRoot());
+                if (mw.isReviewSession()) {
+                    if (reviewBox == null) {
+                        reviewBox = new FlashcardBox(mw);
+                    }
+                    reviewBox.setFlashCard(fc, getIndex() + 1);
+                    setGraphic(reviewBox.getRoot());
                 } else {
-                    setGraphic(new FlashcardBoxNoButton(fc, getIndex() + 1, mw).getRoot());
+                    if (browseBox == null) {
+                        browseBox = new FlashcardBoxNoButton(mw);
+                    }
+                    browseBox.setFlashCard(fc, getIndex() + 1);
+                    setGraphic(browseBox.getRoot());
                 }
             }
         }
@@ -187,6 +187,15 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Returns true if the flash cards are shown for a review session.
+     *
+     * @see Logic#isReviewSession()
+     */
+    public boolean isReviewSession() {
+        return logic.isReviewSession();
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -210,7 +219,7 @@ public class MainWindow extends UiPart<Stage> {
                 commandResult = new CommandResult(commandResult.getFeedbackToUser(), false, false, false);
             }
 
-            flashcardListPanel.update();
+            flashcardListPanel.update(logic.getFilteredFlashCardList());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
             return commandResult;
         } catch (CommandException | ParseException e) {
@@ -0,0 +1,76 @@
+package seedu.flashlingo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashlingo.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.TRANSLATION_DESC_AMY;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.WORD_DESC_AMY;
+import static seedu.flashlingo.testutil.TypicalFlashCards.AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashlingo.logic.LogicManager;
+import seedu.flashlingo.logic.commands.AddCommand;
+import seedu.flashlingo.logic.commands.ExitCommand;
+import seedu.flashlingo.model.Model;
+import seedu.flashlingo.model.ModelManager;
+import seedu.flashlingo.storage.JsonFlashlingoStorage;
+import seedu.flashlingo.storage.JsonUserPrefsStorage;
+import seedu.flashlingo.storage.StorageManager;
+
+public class HeadlessAppTest {
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + WORD_DESC_AMY + TRANSLATION_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Model model = new ModelManager();
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonFlashlingoStorage(temporaryFolder.resolve("flashlingo.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(new LogicManager(model, storage), new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_validCommands_resultsWritten() throws Exception {
+        assertEquals(0, app.run(reader("# comment", "", "  " + ADD_AMY + "  ")));
+        assertTrue(model.hasFlashCard(AMY));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, AMY.getOriginalWord().getWord(),
+                AMY.getTranslatedWord().getWord()) + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+        assertEquals("", err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_invalidCommand_errorWrittenAndLaterCommandsRun() throws Exception {
+        assertEquals(1, app.run(reader("unknown", ADD_AMY)));
+        assertTrue(model.hasFlashCard(AMY));
+        assertEquals(MESSAGE_UNKNOWN_COMMAND + System.lineSeparator(), err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsIgnored() throws Exception {
+        assertEquals(0, app.run(reader(ExitCommand.COMMAND_WORD, ADD_AMY)));
+        assertFalse(model.hasFlashCard(AMY));
+    }
+
+    private static BufferedReader reader(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
@@ -13,7 +13,8 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", isJournalStorageEnabled=" + config.isJournalStorageEnabled() + "}";
         //Test for equality against the expected String representation of a Config object
         assertEquals(expected, config.toString());
     }
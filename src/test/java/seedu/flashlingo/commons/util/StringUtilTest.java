@@ -1,5 +1,6 @@
 package seedu.flashlingo.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashlingo.testutil.Assert.assertThrows;
@@ -123,6 +124,27 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(3, StringUtil.editDistance("abc", ""));
+        assertEquals(0, StringUtil.editDistance("meier", "meier"));
+        assertEquals(1, StringUtil.editDistance("meier", "meyer")); // substitution
+        assertEquals(1, StringUtil.editDistance("meier", "meir")); // deletion
+        assertEquals(1, StringUtil.editDistance("meir", "meier")); // insertion
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(1, StringUtil.editDistance("梅尔", "梅耶"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
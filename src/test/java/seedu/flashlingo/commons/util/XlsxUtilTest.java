@@ -0,0 +1,139 @@
+package seedu.flashlingo.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.flashlingo.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashlingo.commons.exceptions.DataLoadingException;
+
+public class XlsxUtilTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "LoadCommandTest");
+    private static final Path VALID_FILE = TEST_DATA_FOLDER.resolve("duplicateFlashCardFile.xlsx");
+    private static final Path NOT_XLSX_FILE = TEST_DATA_FOLDER.resolve("invalidTypeFile.json");
+
+    private static final String MAIN_NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String RELATIONSHIPS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String PACKAGE_RELATIONSHIPS = "http://schemas.openxmlformats.org/package/2006/relationships";
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<Integer> rowNumbers = new ArrayList<>();
+    private final List<String[]> rows = new ArrayList<>();
+
+    @Test
+    public void readFirstSheet_sharedStrings_rowsRead() throws Exception {
+        XlsxUtil.readFirstSheet(VALID_FILE, 2, this::addRow);
+
+        assertEquals(List.of(1, 2, 3), rowNumbers);
+        assertArrayEquals(new String[] {"Amy", "艾米"}, rows.get(0));
+        assertArrayEquals(new String[] {"Alice pauline", "爱丽丝·宝琳"}, rows.get(2));
+    }
+
+    @Test
+    public void readFirstSheet_inlineAndMissingCells_rowsRead() throws Exception {
+        Path file = writeXlsx("<row r=\"2\"><c r=\"B2\" t=\"inlineStr\"><is><r><t>hel</t></r><r><t>lo</t></r></is></c>"
+                + "<c r=\"C2\"><v>3</v></c></row>"
+                + "<row r=\"5\"><c r=\"A5\"><v>42</v></c><c r=\"B5\" t=\"b\"><v>1</v></c></row>");
+        XlsxUtil.readFirstSheet(file, 2, this::addRow);
+
+        assertEquals(List.of(2, 5), rowNumbers);
+        assertArrayEquals(new String[] {"", "hello"}, rows.get(0));
+        assertArrayEquals(new String[] {"42", "TRUE"}, rows.get(1));
+    }
+
+    @Test
+    public void readFirstSheet_numericCells_formattedAsDisplayed() throws Exception {
+        Path file = writeXlsx("<row r=\"1\"><c r=\"A1\"><v>0.1</v></c><c r=\"B1\" s=\"1\"><v>1.5</v></c></row>"
+                + "<row r=\"2\"><c r=\"A2\" s=\"2\"><v>45000</v></c></row>",
+                "<cellXfs count=\"3\"><xf numFmtId=\"0\"/><xf numFmtId=\"2\"/><xf numFmtId=\"14\"/></cellXfs>");
+        XlsxUtil.readFirstSheet(file, 2, this::addRow);
+
+        assertArrayEquals(new String[] {"0.1", "1.50"}, rows.get(0));
+        assertArrayEquals(new String[] {"3/15/23", ""}, rows.get(1));
+    }
+
+    @Test
+    public void readFirstSheet_invalidSharedString_throwsDataLoadingException() throws Exception {
+        Path file = writeXlsx("<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c></row>");
+        assertThrows(DataLoadingException.class, () -> XlsxUtil.readFirstSheet(file, 2, this::addRow));
+    }
+
+    @Test
+    public void readFirstSheet_notXlsxFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> XlsxUtil.readFirstSheet(NOT_XLSX_FILE, 2, this::addRow));
+    }
+
+    @Test
+    public void readFirstSheet_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> XlsxUtil.readFirstSheet(null, 2, this::addRow));
+        assertThrows(NullPointerException.class, () -> XlsxUtil.readFirstSheet(VALID_FILE, 2, null));
+    }
+
+    private void addRow(int rowNumber, String[] cells) {
+        rowNumbers.add(rowNumber);
+        rows.add(cells);
+    }
+
+    /**
+     * Writes a workbook without shared strings or styles whose only sheet holds {@code sheetData}.
+     */
+    private Path writeXlsx(String sheetData) throws IOException {
+        return writeXlsx(sheetData, null);
+    }
+
+    /**
+     * Writes a workbook without shared strings whose only sheet holds {@code sheetData},
+     * styled by {@code styles} if it is not null.
+     */
+    private Path writeXlsx(String sheetData, String styles) throws IOException {
+        Path file = testFolder.resolve("test.xlsx");
+        try (OutputStream out = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(out)) {
+            addEntry(zip, "[Content_Types].xml", "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/"
+                    + "content-types\"><Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-"
+                    + "package.relationships+xml\"/><Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+                    + "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-"
+                    + "officedocument.spreadsheetml.sheet.main+xml\"/><Override PartName=\"/xl/worksheets/sheet1.xml\""
+                    + " ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>"
+                    + (styles == null ? "" : "<Override PartName=\"/xl/styles.xml\" ContentType=\"application/"
+                    + "vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>") + "</Types>");
+            addEntry(zip, "_rels/.rels", "<Relationships xmlns=\"" + PACKAGE_RELATIONSHIPS + "\">"
+                    + "<Relationship Id=\"rId1\" Type=\"" + RELATIONSHIPS + "/officeDocument\""
+                    + " Target=\"xl/workbook.xml\"/></Relationships>");
+            addEntry(zip, "xl/workbook.xml", "<workbook xmlns=\"" + MAIN_NAMESPACE + "\" xmlns:r=\"" + RELATIONSHIPS
+                    + "\"><sheets><sheet name=\"Sheet1\" sheetId=\"1\" r:id=\"rId1\"/></sheets></workbook>");
+            addEntry(zip, "xl/_rels/workbook.xml.rels", "<Relationships xmlns=\"" + PACKAGE_RELATIONSHIPS + "\">"
+                    + "<Relationship Id=\"rId1\" Type=\"" + RELATIONSHIPS + "/worksheet\""
+                    + " Target=\"worksheets/sheet1.xml\"/></Relationships>");
+            addEntry(zip, "xl/worksheets/sheet1.xml", "<worksheet xmlns=\"" + MAIN_NAMESPACE + "\"><sheetData>"
+                    + sheetData + "</sheetData></worksheet>");
+            if (styles != null) {
+                addEntry(zip, "xl/styles.xml", "<styleSheet xmlns=\"" + MAIN_NAMESPACE + "\">" + styles
+                        + "</styleSheet>");
+            }
+        }
+        return file;
+    }
+
+    private static void addEntry(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" + content)
+                .getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
@@ -1,16 +1,23 @@
 package seedu.flashlingo.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashlingo.logic.Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX;
 import static seedu.flashlingo.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.flashlingo.logic.commands.CommandTestUtil.TRANSLATION_DESC_AMY;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.TRANSLATION_DESC_BOB;
 import static seedu.flashlingo.logic.commands.CommandTestUtil.WORD_DESC_AMY;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.WORD_DESC_BOB;
 import static seedu.flashlingo.testutil.Assert.assertThrows;
 import static seedu.flashlingo.testutil.TypicalFlashCards.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +26,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.flashlingo.logic.commands.AddCommand;
 import seedu.flashlingo.logic.commands.CommandResult;
 import seedu.flashlingo.logic.commands.ListCommand;
+import seedu.flashlingo.logic.commands.RunCommand;
+import seedu.flashlingo.logic.commands.SwitchCommand;
 import seedu.flashlingo.logic.commands.exceptions.CommandException;
 import seedu.flashlingo.logic.parser.exceptions.ParseException;
 import seedu.flashlingo.model.Model;
@@ -80,6 +89,100 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        Path flashlingoPath = temporaryFolder.resolve("flashlingo.json");
+        JsonFlashlingoStorage flashlingoStorage = new JsonFlashlingoStorage(flashlingoPath) {
+            @Override
+            public void saveFlashlingo(ReadOnlyFlashlingo flashlingo, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(flashlingoStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void execute_unchangedFlashlingo_savesOnlyOnce() throws Exception {
+        int[] saveCount = new int[1];
+        Path flashlingoPath = temporaryFolder.resolve("flashlingo.json");
+        JsonFlashlingoStorage flashlingoStorage = new JsonFlashlingoStorage(flashlingoPath) {
+            @Override
+            public void saveFlashlingo(ReadOnlyFlashlingo flashlingo, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveFlashlingo(flashlingo, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(flashlingoStorage, userPrefsStorage));
+
+        logic.execute(AddCommand.COMMAND_WORD + WORD_DESC_AMY + TRANSLATION_DESC_AMY);
+        assertEquals(1, saveCount[0]);
+        logic.execute(SwitchCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+        assertTrue(Files.exists(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void executeBatch_validLines_savesOnce() throws Exception {
+        int[] saveCount = new int[1];
+        setUpCountingStorage(saveCount);
+
+        FlashCard bob = new FlashCardBuilder().withOriginalWord("Bob", "").withTranslatedWord("鲍勃", "").build();
+        BatchResult result = logic.executeBatch(Arrays.asList(
+                AddCommand.COMMAND_WORD + WORD_DESC_AMY + TRANSLATION_DESC_AMY,
+                AddCommand.COMMAND_WORD + WORD_DESC_BOB + TRANSLATION_DESC_BOB,
+                ListCommand.COMMAND_WORD), true);
+        assertEquals(new BatchResult(3, Collections.emptyList(), true), result);
+        assertEquals(1, saveCount[0]);
+        assertTrue(model.hasFlashCard(AMY));
+        assertTrue(model.hasFlashCard(bob));
+    }
+
+    @Test
+    public void executeBatch_atomicWithInvalidLine_rolledBack() throws Exception {
+        int[] saveCount = new int[1];
+        setUpCountingStorage(saveCount);
+
+        BatchResult result = logic.executeBatch(Arrays.asList(
+                AddCommand.COMMAND_WORD + WORD_DESC_AMY + TRANSLATION_DESC_AMY, "unknown"), true);
+        assertEquals(new BatchResult(1, Collections.singletonList(
+                new BatchResult.LineError(2, MESSAGE_UNKNOWN_COMMAND)), false), result);
+        assertEquals(0, saveCount[0]);
+        assertFalse(model.hasFlashCard(AMY));
+    }
+
+    @Test
+    public void executeBatch_notAtomicWithInvalidLine_validLinesCommitted() throws Exception {
+        int[] saveCount = new int[1];
+        setUpCountingStorage(saveCount);
+
+        BatchResult result = logic.executeBatch(Arrays.asList(
+                "unknown", AddCommand.COMMAND_WORD + WORD_DESC_AMY + TRANSLATION_DESC_AMY), false);
+        assertEquals(new BatchResult(1, Collections.singletonList(
+                new BatchResult.LineError(1, MESSAGE_UNKNOWN_COMMAND)), true), result);
+        assertEquals(1, saveCount[0]);
+        assertTrue(model.hasFlashCard(AMY));
+    }
+
+    @Test
+    public void execute_runCommand_batchSavedOnce() throws Exception {
+        int[] saveCount = new int[1];
+        setUpCountingStorage(saveCount);
+        Path commandsPath = temporaryFolder.resolve("commands.txt");
+        Files.write(commandsPath, Arrays.asList(
+                AddCommand.COMMAND_WORD + WORD_DESC_AMY + TRANSLATION_DESC_AMY,
+                AddCommand.COMMAND_WORD + WORD_DESC_BOB + TRANSLATION_DESC_BOB));
+
+        CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + commandsPath);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, commandsPath), result.getFeedbackToUser());
+        assertEquals(1, saveCount[0]);
+        assertTrue(model.hasFlashCard(AMY));
+    }
+
     @Test
     public void getFilteredFlashCardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredFlashCardList().remove(0));
@@ -169,4 +272,20 @@ public class LogicManagerTest {
         expectedModel.addFlashCard(expectedFlashCard);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
+
+    /**
+     * Sets up {@code logic} with a storage that counts the times the Flashlingo data is saved in {@code saveCount}.
+     */
+    private void setUpCountingStorage(int[] saveCount) {
+        Path flashlingoPath = temporaryFolder.resolve("flashlingo.json");
+        JsonFlashlingoStorage flashlingoStorage = new JsonFlashlingoStorage(flashlingoPath) {
+            @Override
+            public void saveFlashlingo(ReadOnlyFlashlingo flashlingo, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveFlashlingo(flashlingo, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(flashlingoStorage, userPrefsStorage));
+    }
 }
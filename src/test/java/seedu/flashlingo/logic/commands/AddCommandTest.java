@@ -6,8 +6,10 @@ import static seedu.flashlingo.logic.Messages.MESSAGE_SAME_WORD;
 import static seedu.flashlingo.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,11 @@ import seedu.flashlingo.model.Model;
 import seedu.flashlingo.model.ReadOnlyFlashlingo;
 import seedu.flashlingo.model.ReadOnlyUserPrefs;
 import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.model.flashcard.FlashCardStatistics;
+import seedu.flashlingo.model.flashcard.ReviewLoadBalancer;
+import seedu.flashlingo.model.flashcard.WordContainsKeywordsPredicate;
+import seedu.flashlingo.model.flashcard.WordLanguagePredicate;
+import seedu.flashlingo.model.flashcard.WordSimilarToKeywordsPredicate;
 import seedu.flashlingo.model.flashcard.words.OriginalWord;
 import seedu.flashlingo.model.flashcard.words.TranslatedWord;
 import seedu.flashlingo.testutil.FlashCardBuilder;
@@ -85,6 +92,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getUserPrefsVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public GuiSettings getGuiSettings() {
             throw new AssertionError("This method should not be called.");
@@ -130,6 +142,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getFlashlingoVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasFlashCard(FlashCard flashCard) {
             throw new AssertionError("This method should not be called.");
@@ -146,7 +163,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public void addFlashCards(ArrayList<FlashCard> flashCards) {
+        public List<FlashCard> addFlashCards(List<FlashCard> flashCards) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -155,6 +172,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFlashCardLevel(FlashCard flashCard, boolean isSuccess) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<FlashCard> getFilteredFlashCardList() {
             throw new AssertionError("This method should not be called.");
@@ -166,12 +203,37 @@ public class AddCommandTest {
         }
 
         @Override
-        public int getNumberOfFlashCards() {
+        public void findFlashCards(WordContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findSimilarFlashCards(WordSimilarToKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findFlashCardsInLanguage(WordLanguagePredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FlashCardStatistics getFlashCardStatistics() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public int getNumberOfRememberedWords() {
+        public ReviewLoadBalancer createReviewLoadBalancer() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Clock getClock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isReviewSession() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -180,6 +242,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean moveToNextReviewWord(boolean isRequeued) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void startSession() throws CommandException {
             throw new AssertionError("This method should not be called.");
@@ -217,6 +284,11 @@ public class AddCommandTest {
             requireNonNull(flashCard);
             return this.flashCard.isSameFlashCard(flashCard);
         }
+
+        @Override
+        public Clock getClock() {
+            return Clock.systemUTC();
+        }
     }
 
     /**
@@ -241,5 +313,10 @@ public class AddCommandTest {
         public ReadOnlyFlashlingo getFlashlingo() {
             return new Flashlingo();
         }
+
+        @Override
+        public Clock getClock() {
+            return Clock.systemUTC();
+        }
     }
 }
@@ -10,18 +10,15 @@ import org.junit.jupiter.api.Test;
 import seedu.flashlingo.model.Model;
 import seedu.flashlingo.model.ModelManager;
 import seedu.flashlingo.model.UserPrefs;
-import seedu.flashlingo.session.SessionManager;
 
 public class EndCommandTest {
 
-    private SessionManager sessionManager = SessionManager.getInstance();
-
     @Test
     public void execute_startSession_success() {
         Model model = new ModelManager(getTypicalFlashlingoWithOneFlashCard(), new UserPrefs());
         try {
             model.endSession();
-            assertEquals(sessionManager.isReviewSession(), false);
+            assertEquals(model.isReviewSession(), false);
         } catch (Exception e) {
             System.out.println(("An exception occurred: " + e.getMessage()));
         }
@@ -0,0 +1,63 @@
+package seedu.flashlingo.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashlingo.logic.Messages.MESSAGE_FLASHCARDS_LISTED_OVERVIEW;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.flashlingo.testutil.TypicalFlashCards.ALICE;
+import static seedu.flashlingo.testutil.TypicalFlashCards.BENSON;
+import static seedu.flashlingo.testutil.TypicalFlashCards.DANIEL;
+import static seedu.flashlingo.testutil.TypicalFlashCards.getTypicalFlashlingo;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashlingo.model.Model;
+import seedu.flashlingo.model.ModelManager;
+import seedu.flashlingo.model.UserPrefs;
+import seedu.flashlingo.model.flashcard.WordSimilarToKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalFlashlingo(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalFlashlingo(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        WordSimilarToKeywordsPredicate firstPredicate =
+                new WordSimilarToKeywordsPredicate(Collections.singletonList("first"));
+        WordSimilarToKeywordsPredicate secondPredicate =
+                new WordSimilarToKeywordsPredicate(Collections.singletonList("second"));
+
+        FuzzyFindCommand findFirstCommand = new FuzzyFindCommand(firstPredicate);
+
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+        assertTrue(findFirstCommand.equals(new FuzzyFindCommand(firstPredicate)));
+        assertFalse(findFirstCommand.equals(1));
+        assertFalse(findFirstCommand.equals(null));
+        assertFalse(findFirstCommand.equals(new FuzzyFindCommand(secondPredicate)));
+    }
+
+    @Test
+    public void execute_misspeltKeywords_matchingFlashCardsFound() {
+        String expectedMessage = String.format(MESSAGE_FLASHCARDS_LISTED_OVERVIEW, 3);
+        WordSimilarToKeywordsPredicate predicate = new WordSimilarToKeywordsPredicate(Arrays.asList("meir", "alise"));
+        FuzzyFindCommand command = new FuzzyFindCommand(predicate);
+        expectedModel.updateFilteredFlashCardList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        WordSimilarToKeywordsPredicate predicate = new WordSimilarToKeywordsPredicate(Arrays.asList("keyword"));
+        FuzzyFindCommand command = new FuzzyFindCommand(predicate);
+        String expected = FuzzyFindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, command.toString());
+    }
+}
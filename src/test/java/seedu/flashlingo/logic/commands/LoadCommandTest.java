@@ -5,8 +5,11 @@ import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.flashlingo.logic.Messages;
 import seedu.flashlingo.model.Model;
 import seedu.flashlingo.model.ModelManager;
+import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.testutil.FlashCardBuilder;
 import seedu.flashlingo.testutil.TypicalFlashCards;
 
 public class LoadCommandTest {
@@ -15,6 +18,8 @@ public class LoadCommandTest {
     private static final Path INVALID_TYPE_FILE = TEST_DATA_FOLDER.resolve("invalidTypeFile.json");
     private static final Path DUPLICATE_FLASH_CARD_FILE = TEST_DATA_FOLDER.resolve("duplicateFlashCardFile.xlsx");
     private static final Path VALID_FLASH_CARD_FILE = TEST_DATA_FOLDER.resolve("validFlashCardFile.xlsx");
+    private static final Path SAME_WORD_FILE = TEST_DATA_FOLDER.resolve("sameWordFile.xlsx");
+    private static final Path TRUNCATED_FILE = TEST_DATA_FOLDER.resolve("truncatedFile.xlsx");
     private static final String MESSAGE_OPEN_FILE_FAIL = "File not found or accessible.";
     private static final String MESSAGE_READ_FILE_FAIL = "File cannot be read due to invalid content or format.";
     private static final String MESSAGE_EMPTY_WORD = "Word/translation cannot be empty!";
@@ -35,17 +40,57 @@ public class LoadCommandTest {
     }
 
     @Test
-    public void execute_invalidFileFormat_throwsCommandException() {
-        CommandTestUtil.assertCommandFailure(new LoadCommand(INVALID_FORMAT_FILE.toString()), model,
-                MESSAGE_EMPTY_WORD);
+    public void execute_rowWithEmptyWord_rowSkipped() {
+        expectedModel.addFlashCard(buildFlashCard("test word", "test translation"));
+        CommandTestUtil.assertCommandSuccess(new LoadCommand(INVALID_FORMAT_FILE.toString()), model,
+                LoadCommand.MESSAGE_SUCCESS + INVALID_FORMAT_FILE
+                + String.format(LoadCommand.MESSAGE_SKIPPED_ROWS, 1)
+                + String.format(LoadCommand.MESSAGE_ROW_ERROR, 2, MESSAGE_EMPTY_WORD), expectedModel);
     }
 
     @Test
-    public void execute_duplicateFlashCard_throwsCommandException() {
+    public void execute_rowWithSameWordAndTranslation_rowSkipped() {
+        expectedModel.addFlashCard(buildFlashCard("test word", "test translation"));
+        CommandTestUtil.assertCommandSuccess(new LoadCommand(SAME_WORD_FILE.toString()), model,
+                LoadCommand.MESSAGE_SUCCESS + SAME_WORD_FILE
+                + String.format(LoadCommand.MESSAGE_SKIPPED_ROWS, 1)
+                + String.format(LoadCommand.MESSAGE_ROW_ERROR, 1, Messages.MESSAGE_SAME_WORD), expectedModel);
+    }
+
+    @Test
+    public void execute_fileUnreadablePartWay_rowsReadBeforeKept() {
+        expectedModel.addFlashCard(buildFlashCard("test word", "test translation"));
+        CommandTestUtil.assertCommandSuccess(new LoadCommand(TRUNCATED_FILE.toString()), model,
+                LoadCommand.MESSAGE_SUCCESS + TRUNCATED_FILE
+                + String.format(LoadCommand.MESSAGE_STOPPED_READING, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_duplicateFlashCard_rowSkipped() {
         model.addFlashCard(TypicalFlashCards.AMY);
+        expectedModel.addFlashCard(TypicalFlashCards.AMY);
+        expectedModel.addFlashCard(buildFlashCard("John", "约翰"));
+        expectedModel.addFlashCard(buildFlashCard("Alice pauline", "爱丽丝·宝琳"));
+        CommandTestUtil.assertCommandSuccess(new LoadCommand(DUPLICATE_FLASH_CARD_FILE.toString()), model,
+                LoadCommand.MESSAGE_SUCCESS + DUPLICATE_FLASH_CARD_FILE
+                + String.format(LoadCommand.MESSAGE_SKIPPED_ROWS, 1)
+                + String.format(LoadCommand.MESSAGE_ROW_ERROR, 1, TypicalFlashCards.AMY.getOriginalWord().getWord()
+                + "-" + TypicalFlashCards.AMY.getTranslatedWord().getWord() + MESSAGE_DUPLICATE_FLASH_CARD),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_allFlashCardsDuplicate_throwsCommandException() {
+        model.addFlashCard(TypicalFlashCards.AMY);
+        model.addFlashCard(buildFlashCard("john", "约翰"));
+        model.addFlashCard(buildFlashCard("Alice Pauline", "爱丽丝·宝琳"));
         CommandTestUtil.assertCommandFailure(new LoadCommand(DUPLICATE_FLASH_CARD_FILE.toString()), model,
-                TypicalFlashCards.AMY.getOriginalWord().getWord() + "-"
-                + TypicalFlashCards.AMY.getTranslatedWord().getWord() + MESSAGE_DUPLICATE_FLASH_CARD);
+                LoadCommand.MESSAGE_NOTHING_LOADED + DUPLICATE_FLASH_CARD_FILE
+                + String.format(LoadCommand.MESSAGE_SKIPPED_ROWS, 3)
+                + String.format(LoadCommand.MESSAGE_ROW_ERROR, 1, "Amy-艾米" + MESSAGE_DUPLICATE_FLASH_CARD)
+                + String.format(LoadCommand.MESSAGE_ROW_ERROR, 2, "John-约翰" + MESSAGE_DUPLICATE_FLASH_CARD)
+                + String.format(LoadCommand.MESSAGE_ROW_ERROR, 3, "Alice pauline-爱丽丝·宝琳"
+                + MESSAGE_DUPLICATE_FLASH_CARD));
     }
 
     @Test
@@ -54,4 +99,8 @@ public class LoadCommandTest {
         CommandTestUtil.assertCommandSuccess(new LoadCommand(VALID_FLASH_CARD_FILE.toString()), model,
                 String.format(LoadCommand.MESSAGE_SUCCESS + VALID_FLASH_CARD_FILE, 1, 0), expectedModel);
     }
+
+    private static FlashCard buildFlashCard(String originalWord, String translatedWord) {
+        return new FlashCardBuilder().withOriginalWord(originalWord, "").withTranslatedWord(translatedWord, "").build();
+    }
 }
@@ -2,8 +2,11 @@ package seedu.flashlingo.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.flashlingo.testutil.TypicalFlashCards.getTypicalFlashlingoWithOneFlashCard;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +15,8 @@ import seedu.flashlingo.model.ModelManager;
 import seedu.flashlingo.model.UserPrefs;
 import seedu.flashlingo.model.flashcard.FlashCard;
 import seedu.flashlingo.model.flashcard.ProficiencyLevel;
+import seedu.flashlingo.testutil.FlashCardBuilder;
+import seedu.flashlingo.testutil.FlashlingoBuilder;
 
 public class NoCommandTest {
     private Model model = new ModelManager();
@@ -26,11 +31,14 @@ public class NoCommandTest {
     public void execute_getNextReviewWord_success() {
         model = new ModelManager(getTypicalFlashlingoWithOneFlashCard(), new UserPrefs());
         try {
+            model.startSession();
             FlashCard result = model.nextReviewWord();
             System.out.println(result);
             assertNotNull(result);
         } catch (Exception e) {
             System.out.println(("An exception occurred: " + e.getMessage()));
+        } finally {
+            model.endSession();
         }
     }
 
@@ -38,17 +46,34 @@ public class NoCommandTest {
     public void execute_updateDate_failure() {
         model = new ModelManager(getTypicalFlashlingoWithOneFlashCard(), new UserPrefs());
         try {
+            model.startSession();
             FlashCard result = model.nextReviewWord();
             ProficiencyLevel previousLevel = result.getProficiencyLevel();
 
-            result.updateLevel(false);
+            result.updateLevel(false, model.getClock().millis());
 
             ProficiencyLevel currentLevel = result.getProficiencyLevel();
             assertEquals(previousLevel.getLevel(), currentLevel.getLevel());
         } catch (Exception e) {
             System.out.println(("An exception occurred: " + e.getMessage()));
+        } finally {
+            model.endSession();
         }
 
     }
 
+    @Test
+    public void execute_forgottenWord_reviewedAgainInSession() throws Exception {
+        FlashCard word = new FlashCardBuilder().build();
+        model = new ModelManager(new FlashlingoBuilder().withFlashCard(word).build(), new UserPrefs());
+        model.startSession();
+        try {
+            CommandResult result = new NoCommand().execute(model);
+            assertEquals(NoCommand.MESSAGE_SUCCESS + "\nThe next word is: ", result.getFeedbackToUser());
+            assertSame(word, model.nextReviewWord());
+            assertEquals(Collections.singletonList(word), model.getFilteredFlashCardList());
+        } finally {
+            model.endSession();
+        }
+    }
 }
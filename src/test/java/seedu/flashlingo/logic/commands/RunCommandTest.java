@@ -0,0 +1,132 @@
+package seedu.flashlingo.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashlingo.logic.Messages.MESSAGE_OPEN_FILE_FAIL;
+import static seedu.flashlingo.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.TRANSLATION_DESC_AMY;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.TRANSLATION_DESC_BOB;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.TRANSLATION_LANGUAGE_DESC;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.WORD_DESC_AMY;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.WORD_DESC_BOB;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.WORD_LANGUAGE_DESC;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.flashlingo.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.flashlingo.testutil.TypicalFlashCards.AMY;
+import static seedu.flashlingo.testutil.TypicalFlashCards.BOB;
+import static seedu.flashlingo.testutil.TypicalFlashCards.getTypicalFlashlingo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashlingo.logic.BatchExecutor;
+import seedu.flashlingo.model.Model;
+import seedu.flashlingo.model.ModelManager;
+import seedu.flashlingo.model.UserPrefs;
+import seedu.flashlingo.model.flashcard.FlashCard;
+
+public class RunCommandTest {
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + WORD_DESC_AMY + TRANSLATION_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + WORD_DESC_BOB + WORD_LANGUAGE_DESC
+            + TRANSLATION_DESC_BOB + TRANSLATION_LANGUAGE_DESC;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalFlashlingo(), new UserPrefs());
+
+    @Test
+    public void execute_invalidFilePath_throwsCommandException() {
+        assertCommandFailure(new RunCommand(temporaryFolder.resolve("missing.txt").toString()), model,
+                MESSAGE_OPEN_FILE_FAIL);
+    }
+
+    @Test
+    public void execute_validLines_allCommandsRun() throws IOException {
+        String fileName = writeFile("# adds two cards", ADD_AMY, "", ADD_BOB, ListCommand.COMMAND_WORD);
+        Model expectedModel = new ModelManager(getTypicalFlashlingo(), new UserPrefs());
+        expectedModel.addFlashCard(AMY);
+        expectedModel.addFlashCard(BOB);
+        assertCommandSuccess(new RunCommand(fileName), model,
+                String.format(RunCommand.MESSAGE_SUCCESS, 3, fileName), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidLines_rolledBack() throws IOException {
+        String fileName = writeFile(ADD_AMY, "unknown", ADD_AMY, StartCommand.COMMAND_WORD, ADD_BOB);
+        assertCommandFailure(new RunCommand(fileName), model,
+                String.format(RunCommand.MESSAGE_ROLLED_BACK, 3, fileName)
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 2, MESSAGE_UNKNOWN_COMMAND)
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 3, AddCommand.MESSAGE_DUPLICATE_CARD)
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 4, BatchExecutor.MESSAGE_NOT_BATCHABLE));
+        assertFalse(model.hasFlashCard(AMY));
+    }
+
+    @Test
+    public void execute_invalidLineAfterChanges_changesUndone() throws IOException {
+        List<FlashCard> expectedFlashCards = new ArrayList<>(model.getFlashlingo().getFlashCardList());
+        long expectedVersion = model.getFlashlingoVersion();
+        String fileName = writeFile(DeleteCommand.COMMAND_WORD + " 2", EditCommand.COMMAND_WORD + " 1" + WORD_DESC_BOB,
+                ADD_AMY, "unknown");
+        assertCommandFailure(new RunCommand(fileName), model,
+                String.format(RunCommand.MESSAGE_ROLLED_BACK, 1, fileName)
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 4, MESSAGE_UNKNOWN_COMMAND));
+        assertEquals(expectedFlashCards, model.getFlashlingo().getFlashCardList());
+        assertEquals(expectedVersion, model.getFlashlingoVersion());
+        assertEquals(Optional.of(Collections.emptyList()), model.getFlashlingo().getChangesSince(expectedVersion));
+    }
+
+    @Test
+    public void execute_manyInvalidLines_reportTruncated() throws IOException {
+        int lineCount = RunCommand.MAX_REPORTED_LINE_ERRORS + 2;
+        String[] lines = new String[lineCount];
+        Arrays.fill(lines, "unknown");
+        String fileName = writeFile(lines);
+        StringBuilder expectedMessage = new StringBuilder(String.format(RunCommand.MESSAGE_ROLLED_BACK, lineCount,
+                fileName));
+        for (int i = 1; i <= RunCommand.MAX_REPORTED_LINE_ERRORS; i++) {
+            expectedMessage.append(String.format(RunCommand.MESSAGE_LINE_ERROR, i, MESSAGE_UNKNOWN_COMMAND));
+        }
+        expectedMessage.append(String.format(RunCommand.MESSAGE_MORE_LINE_ERRORS, 2));
+        assertCommandFailure(new RunCommand(fileName), model, expectedMessage.toString());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand("a.txt");
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand("a.txt")));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand("b.txt")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RunCommand runCommand = new RunCommand("a.txt");
+        assertEquals(RunCommand.class.getCanonicalName() + "{fileName=a.txt}", runCommand.toString());
+    }
+
+    private String writeFile(String... lines) throws IOException {
+        Path filePath = temporaryFolder.resolve("commands.txt");
+        Files.write(filePath, Arrays.asList(lines));
+        return filePath.toString();
+    }
+}
@@ -10,18 +10,15 @@ import org.junit.jupiter.api.Test;
 import seedu.flashlingo.model.Model;
 import seedu.flashlingo.model.ModelManager;
 import seedu.flashlingo.model.UserPrefs;
-import seedu.flashlingo.session.SessionManager;
 
 public class StartCommandTest {
 
-    private SessionManager sessionManager = SessionManager.getInstance();
-
     @Test
     public void execute_startSession_success() {
         Model model = new ModelManager(getTypicalFlashlingoWithOneFlashCard(), new UserPrefs());
         try {
             model.startSession();
-            assertEquals(sessionManager.isReviewSession(), true);
+            assertEquals(model.isReviewSession(), true);
         } catch (Exception e) {
             System.out.println(("An exception occurred: " + e.getMessage()));
         }
@@ -1,6 +1,7 @@
 package seedu.flashlingo.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.flashlingo.testutil.TypicalFlashCards.getTypicalFlashlingoWithOneFlashCard;
 
@@ -12,6 +13,8 @@ import seedu.flashlingo.model.ModelManager;
 import seedu.flashlingo.model.UserPrefs;
 import seedu.flashlingo.model.flashcard.FlashCard;
 import seedu.flashlingo.model.flashcard.ProficiencyLevel;
+import seedu.flashlingo.testutil.FlashCardBuilder;
+import seedu.flashlingo.testutil.FlashlingoBuilder;
 
 public class YesCommandTest {
     private Model model = new ModelManager();
@@ -26,11 +29,14 @@ public class YesCommandTest {
     public void execute_getNextReviewWord_success() {
         model = new ModelManager(getTypicalFlashlingoWithOneFlashCard(), new UserPrefs());
         try {
+            model.startSession();
             FlashCard result = model.nextReviewWord();
             System.out.println(result);
             assertNotNull(result);
         } catch (Exception e) {
             System.out.println(("An exception occurred: " + e.getMessage()));
+        } finally {
+            model.endSession();
         }
     }
 
@@ -38,17 +44,30 @@ public class YesCommandTest {
     public void execute_updateDate_failure() {
         model = new ModelManager(getTypicalFlashlingoWithOneFlashCard(), new UserPrefs());
         try {
+            model.startSession();
             FlashCard result = model.nextReviewWord();
             ProficiencyLevel previousLevel = result.getProficiencyLevel();
 
-            result.updateLevel(false);
+            result.updateLevel(false, model.getClock().millis());
 
             ProficiencyLevel currentLevel = result.getProficiencyLevel();
             assertEquals(previousLevel.getLevel(), currentLevel.getLevel());
         } catch (Exception e) {
             System.out.println(("An exception occurred: " + e.getMessage()));
+        } finally {
+            model.endSession();
         }
 
     }
 
+    @Test
+    public void execute_lastWordRemembered_endsSession() throws Exception {
+        FlashCard word = new FlashCardBuilder().build();
+        model = new ModelManager(new FlashlingoBuilder().withFlashCard(word).build(), new UserPrefs());
+        model.startSession();
+        CommandResult result = new YesCommand().execute(model);
+        assertEquals(YesCommand.MESSAGE_SUCCESS + "\nYou have no more words to review!", result.getFeedbackToUser());
+        assertFalse(model.isReviewSession());
+        assertEquals(model.getFlashlingo().getFlashCardList(), model.getFilteredFlashCardList());
+    }
 }
@@ -136,6 +136,24 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestRecognized() {
+        Prefix t = new Prefix("t/");
+        Prefix tl = new Prefix("tl/");
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(t, tl);
+
+        ArgumentMultimap argMultimap = tokenizer.scan(" t/hello tl/English t/ tl/");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, t, "hello", "");
+        assertArgumentPresent(argMultimap, tl, "English", "");
+
+        // Reusing the tokenizer gives independent results
+        argMultimap = tokenizer.scan("preamble tl/French");
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentAbsent(argMultimap, t);
+        assertArgumentPresent(argMultimap, tl, "French");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
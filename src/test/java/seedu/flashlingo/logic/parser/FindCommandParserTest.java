@@ -9,7 +9,9 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.flashlingo.logic.commands.FindCommand;
+import seedu.flashlingo.logic.commands.FuzzyFindCommand;
 import seedu.flashlingo.model.flashcard.WordContainsKeywordsPredicate;
+import seedu.flashlingo.model.flashcard.WordSimilarToKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -43,4 +45,15 @@ public class FindCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice, \n \t Bob  \t", expectedFindCommand);
     }
+
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindCommand() {
+        FuzzyFindCommand expectedFuzzyFindCommand =
+                new FuzzyFindCommand(new WordSimilarToKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+        assertParseSuccess(parser, "~Alice, Bob", expectedFuzzyFindCommand);
+        assertParseSuccess(parser, " ~ Alice, \t Bob  ", expectedFuzzyFindCommand);
+
+        // no keywords after the marker
+        assertParseFailure(parser, " ~  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
 }
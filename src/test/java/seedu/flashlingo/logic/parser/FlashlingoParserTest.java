@@ -3,6 +3,8 @@ package seedu.flashlingo.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashlingo.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.flashlingo.logic.Messages.MESSAGE_IN_REVIEW_SESSION;
+import static seedu.flashlingo.logic.Messages.MESSAGE_NOT_IN_REVIEW_SESSION;
 import static seedu.flashlingo.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.flashlingo.testutil.Assert.assertThrows;
 import static seedu.flashlingo.testutil.TestUtil.SANDBOX_FOLDER;
@@ -16,6 +18,7 @@ import seedu.flashlingo.logic.commands.ExitCommand;
 import seedu.flashlingo.logic.commands.HelpCommand;
 import seedu.flashlingo.logic.commands.ListCommand;
 import seedu.flashlingo.logic.commands.LoadCommand;
+import seedu.flashlingo.logic.commands.YesCommand;
 import seedu.flashlingo.logic.parser.exceptions.ParseException;
 import seedu.flashlingo.model.flashcard.FlashCard;
 import seedu.flashlingo.testutil.FlashCardBuilder;
@@ -62,10 +65,30 @@ public class FlashlingoParserTest {
         assertTrue(parser.parseCommand(LoadCommand.COMMAND_WORD + " " + SANDBOX_FOLDER) instanceof LoadCommand);
     }
 
+    @Test
+    public void parseCommand_surroundingWhitespace_commandWordSplit() throws Exception {
+        DeleteCommand command = (DeleteCommand) parser.parseCommand(
+                " \t" + DeleteCommand.COMMAND_WORD + "\t " + INDEX_FIRST_FLASHCARD.getOneBased() + "  \n");
+        assertEquals(new DeleteCommand(INDEX_FIRST_FLASHCARD), command);
+    }
+
+    @Test
+    public void parseCommand_reviewSession_usesReviewSessionCommands() throws Exception {
+        assertThrows(ParseException.class, MESSAGE_NOT_IN_REVIEW_SESSION, () -> parser.parseCommand(
+                YesCommand.COMMAND_WORD));
+        assertTrue(parser.parseCommand(YesCommand.COMMAND_WORD, true) instanceof YesCommand);
+        assertThrows(ParseException.class, MESSAGE_IN_REVIEW_SESSION, () -> parser.parseCommand(
+                ListCommand.COMMAND_WORD, true));
+        assertThrows(ParseException.class, MESSAGE_IN_REVIEW_SESSION, () -> parser.parseCommand(
+                "unknownCommand", true));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
             -> parser.parseCommand(""));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(" \t "));
     }
 
     @Test
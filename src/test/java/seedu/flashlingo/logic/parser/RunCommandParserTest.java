@@ -0,0 +1,27 @@
+package seedu.flashlingo.logic.parser;
+
+import static seedu.flashlingo.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.flashlingo.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.flashlingo.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashlingo.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        RunCommand expectedRunCommand = new RunCommand("commands.txt");
+        assertParseSuccess(parser, "commands.txt", expectedRunCommand);
+
+        // leading and trailing whitespaces
+        assertParseSuccess(parser, " \n commands.txt  \t", expectedRunCommand);
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.flashlingo.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.model.flashcard.scheduling.Sm2Algorithm;
+import seedu.flashlingo.testutil.FlashCardBuilder;
+import seedu.flashlingo.testutil.FlashlingoBuilder;
+
+public class FlashlingoSnapshotTest {
+
+    private final FlashCard reviewed = buildFlashCard("one", "un");
+    private final FlashCard deleted = buildFlashCard("two", "deux");
+    private final FlashCard edited = buildFlashCard("three", "trois");
+    private final FlashCard unchanged = buildFlashCard("four", "quatre");
+    private final Flashlingo flashlingo = new FlashlingoBuilder().withFlashCard(reviewed).withFlashCard(deleted)
+            .withFlashCard(edited).withFlashCard(unchanged).build();
+
+    @Test
+    public void snapshot_unchanged_sameSnapshot() {
+        ReadOnlyFlashlingo snapshot = flashlingo.snapshot();
+        assertSame(snapshot, flashlingo.snapshot());
+    }
+
+    @Test
+    public void snapshot_afterEarlierSnapshot_unchangedFlashCardsShared() {
+        ReadOnlyFlashlingo earlierSnapshot = flashlingo.snapshot();
+        List<FlashCard> earlierFlashCards = new ArrayList<>(earlierSnapshot.getFlashCardList());
+        changeEveryWay();
+
+        ReadOnlyFlashlingo snapshot = flashlingo.snapshot();
+        assertEquals(flashlingo.getFlashCardList(), snapshot.getFlashCardList());
+        assertSame(earlierSnapshot.getFlashCardList().get(3), snapshot.getFlashCardList().get(2));
+        assertNotSame(reviewed, snapshot.getFlashCardList().get(0));
+        assertEquals(4, snapshot.getChangesSince(earlierSnapshot.getVersion()).get().size());
+
+        // the earlier snapshot is not affected by the changes
+        assertEquals(earlierFlashCards, earlierSnapshot.getFlashCardList());
+    }
+
+    @Test
+    public void snapshot_earlierSnapshotNotRead_changesSinceEarlierSnapshotsKept() {
+        ReadOnlyFlashlingo firstSnapshot = flashlingo.snapshot();
+        firstSnapshot.getFlashCardList();
+        flashlingo.removeFlashCard(deleted);
+        flashlingo.snapshot();
+        changeEveryWayButDelete();
+
+        ReadOnlyFlashlingo snapshot = flashlingo.snapshot();
+        assertEquals(4, snapshot.getChangesSince(firstSnapshot.getVersion()).get().size());
+        assertEquals(flashlingo.getFlashCardList(), snapshot.getFlashCardList());
+    }
+
+    @Test
+    public void snapshot_changedAfterSnapshot_snapshotUnchanged() {
+        List<FlashCard> expectedFlashCards = Arrays.asList(reviewed.copy(), deleted.copy(), edited.copy(),
+                unchanged.copy());
+        flashlingo.snapshot().getFlashCardList();
+        flashlingo.addFlashCard(buildFlashCard("five", "cinq"));
+        ReadOnlyFlashlingo snapshot = flashlingo.snapshot();
+        flashlingo.removeFlashCard(flashlingo.getFlashCardList().get(4));
+
+        ReadOnlyFlashlingo changedSnapshot = flashlingo.snapshot();
+        changeEveryWay();
+
+        assertEquals(expectedFlashCards, changedSnapshot.getFlashCardList());
+        assertEquals(5, snapshot.getFlashCardList().size());
+    }
+
+    private void changeEveryWay() {
+        flashlingo.removeFlashCard(deleted);
+        changeEveryWayButDelete();
+    }
+
+    private void changeEveryWayButDelete() {
+        flashlingo.updateFlashCardLevel(reviewed, true, reviewed.getWhenToReview(), new Sm2Algorithm());
+        flashlingo.setFlashCard(edited, buildFlashCard("three", "drei"));
+        flashlingo.addFlashCard(buildFlashCard("five", "fünf"));
+    }
+
+    private static FlashCard buildFlashCard(String originalWord, String translatedWord) {
+        return new FlashCardBuilder().withOriginalWord(originalWord, "English")
+                .withTranslatedWord(translatedWord, "French").build();
+    }
+}
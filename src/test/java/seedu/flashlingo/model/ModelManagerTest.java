@@ -5,6 +5,7 @@ package seedu.flashlingo.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashlingo.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
 import static seedu.flashlingo.testutil.Assert.assertThrows;
@@ -13,14 +14,19 @@ import static seedu.flashlingo.testutil.TypicalFlashCards.WORD;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.flashlingo.commons.core.GuiSettings;
 import seedu.flashlingo.model.flashcard.FlashCard;
 import seedu.flashlingo.model.flashcard.WordContainsKeywordsPredicate;
+import seedu.flashlingo.testutil.FlashCardBuilder;
 import seedu.flashlingo.testutil.FlashlingoBuilder;
 
 public class ModelManagerTest {
@@ -108,6 +114,123 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasFlashCard(WORD));
     }
 
+    @Test
+    public void addFlashCards_existingFlashCard_skipped() {
+        modelManager.addFlashCard(ALICE);
+        assertEquals(Arrays.asList(WORD), modelManager.addFlashCards(Arrays.asList(ALICE, WORD)));
+        assertEquals(Arrays.asList(ALICE, WORD), modelManager.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void hasNextRound_fixedClock_overdueAtClockTime() {
+        Flashlingo flashlingo = new FlashlingoBuilder().withFlashCard(ALICE).build();
+        Clock beforeDue = Clock.fixed(Instant.ofEpochMilli(ALICE.getWhenToReview() - 1), ZoneOffset.UTC);
+        Clock afterDue = Clock.fixed(Instant.ofEpochMilli(ALICE.getWhenToReview() + 1), ZoneOffset.UTC);
+        assertFalse(new ModelManager(flashlingo, new UserPrefs(), beforeDue).hasNextRound());
+        assertTrue(new ModelManager(flashlingo, new UserPrefs(), afterDue).hasNextRound());
+    }
+
+    @Test
+    public void updateFlashCardLevel_fixedClock_reviewTimeFromClock() {
+        FlashCard flashCard = new FlashCardBuilder().build();
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(flashCard.getWhenToReview()), ZoneOffset.UTC);
+        modelManager = new ModelManager(new FlashlingoBuilder().withFlashCard(flashCard).build(), new UserPrefs(),
+                clock);
+        modelManager.updateFlashCardLevel(flashCard, true);
+        assertEquals(clock.millis() + flashCard.getProficiencyLevel().calculateNextReviewInterval(),
+                flashCard.getWhenToReview());
+    }
+
+    @Test
+    public void startSession_reviewBatchSize_reviewsOnlyBatch() throws Exception {
+        FlashCard first = new FlashCardBuilder(ALICE).withWhenToReview(FlashCardBuilder.WHEN_TO_REVIEW - 1).build();
+        FlashCard second = new FlashCardBuilder().build();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setReviewBatchSize(1);
+        modelManager = new ModelManager(new FlashlingoBuilder().withFlashCard(second).withFlashCard(first).build(),
+                userPrefs);
+        modelManager.startSession();
+        try {
+            assertSame(first, modelManager.nextReviewWord());
+            assertEquals(Arrays.asList(first), modelManager.getFilteredFlashCardList());
+            assertFalse(modelManager.moveToNextReviewWord(false));
+            assertEquals(2, modelManager.getFilteredFlashCardList().size());
+        } finally {
+            modelManager.endSession();
+        }
+    }
+
+    @Test
+    public void moveToNextReviewWord_dueFlashCards_onlyCurrentFlashCardShown() throws Exception {
+        FlashCard first = new FlashCardBuilder(ALICE).withWhenToReview(FlashCardBuilder.WHEN_TO_REVIEW - 1).build();
+        FlashCard second = new FlashCardBuilder().build();
+        modelManager = new ModelManager(new FlashlingoBuilder().withFlashCard(second).withFlashCard(first).build(),
+                new UserPrefs());
+        modelManager.startSession();
+        assertEquals(Arrays.asList(first), modelManager.getFilteredFlashCardList());
+
+        assertTrue(modelManager.moveToNextReviewWord(false));
+        assertEquals(Arrays.asList(second), modelManager.getFilteredFlashCardList());
+
+        assertFalse(modelManager.moveToNextReviewWord(false));
+        assertEquals(Arrays.asList(second, first), modelManager.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void startSession_otherModel_sessionsIndependent() throws Exception {
+        FlashCard flashCard = new FlashCardBuilder().build();
+        ModelManager reviewingModel = new ModelManager(new FlashlingoBuilder().withFlashCard(flashCard).build(),
+                new UserPrefs());
+        ModelManager otherModel = new ModelManager(new FlashlingoBuilder().withFlashCard(flashCard).build(),
+                new UserPrefs());
+        reviewingModel.startSession();
+        assertTrue(reviewingModel.isReviewSession());
+        assertFalse(otherModel.isReviewSession());
+
+        otherModel.startSession();
+        otherModel.endSession();
+        assertTrue(reviewingModel.isReviewSession());
+        assertEquals(flashCard, reviewingModel.nextReviewWord());
+    }
+
+    @Test
+    public void commitTransaction_changesKept() {
+        long versionBefore = modelManager.getFlashlingoVersion();
+        modelManager.beginTransaction();
+        modelManager.addFlashCard(WORD);
+        modelManager.commitTransaction();
+        assertTrue(modelManager.hasFlashCard(WORD));
+        assertEquals(1, modelManager.getFlashlingo().getChangesSince(versionBefore).get().size());
+    }
+
+    @Test
+    public void rollBackTransaction_reviewedAndDeleted_flashCardsRestored() {
+        FlashCard flashCard = new FlashCardBuilder().build();
+        modelManager = new ModelManager(new FlashlingoBuilder().withFlashCard(flashCard).withFlashCard(ALICE)
+                .withFlashCard(WORD).build(), new UserPrefs());
+        List<FlashCard> expectedFlashCards = Arrays.asList(flashCard.copy(), ALICE.copy(), WORD.copy());
+        long versionBefore = modelManager.getFlashlingoVersion();
+
+        modelManager.beginTransaction();
+        modelManager.updateFlashCardLevel(flashCard, true);
+        modelManager.updateFlashCardLevel(flashCard, true);
+        modelManager.deleteFlashCard(ALICE);
+        modelManager.updateFilteredFlashCardList(unused -> false);
+        modelManager.rollBackTransaction();
+
+        assertEquals(expectedFlashCards, modelManager.getFlashlingo().getFlashCardList());
+        assertEquals(expectedFlashCards, modelManager.getFilteredFlashCardList());
+        assertEquals(versionBefore, modelManager.getFlashlingoVersion());
+    }
+
+    @Test
+    public void beginTransaction_transactionOpen_throwsIllegalStateException() {
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+        modelManager.commitTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.rollBackTransaction());
+    }
+
     @Test
     public void equals() {
         Flashlingo flashlingo = new FlashlingoBuilder().withFlashCard(WORD).withFlashCard(ALICE).build();
@@ -0,0 +1,114 @@
+package seedu.flashlingo.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.flashlingo.model.flashcard.FlashCardStatistics.LanguageStatistics;
+import seedu.flashlingo.testutil.FlashCardBuilder;
+
+public class FlashCardStatisticsTest {
+
+    private static final long DECEMBER_11 = new GregorianCalendar(2023, 11, 11).getTimeInMillis();
+    private static final long DECEMBER_20 = new GregorianCalendar(2023, 11, 20).getTimeInMillis();
+    private static final long DECEMBER_15 = new GregorianCalendar(2023, 11, 15).getTimeInMillis();
+    private static final long DECEMBER_25 = new GregorianCalendar(2023, 11, 25).getTimeInMillis();
+
+    private final UniqueFlashCardList flashCards = new UniqueFlashCardList();
+    private FlashCard french;
+    private FlashCard german;
+    private FlashCard learnt;
+
+    @BeforeEach
+    public void setUp() {
+        french = new FlashCardBuilder().withOriginalWord("hello", "English").withTranslatedWord("bonjour", "French")
+                .withWhenToReview(DECEMBER_11).withLevel(1).build();
+        german = new FlashCardBuilder().withOriginalWord("hello", "english").withTranslatedWord("hallo", "German")
+                .withWhenToReview(DECEMBER_20).withLevel(2).build();
+        learnt = new FlashCardBuilder().withOriginalWord("yes", "English").withTranslatedWord("oui", "French")
+                .withWhenToReview(DECEMBER_11).withLevel(5).build();
+        flashCards.setFlashCards(Arrays.asList(french, german, learnt));
+    }
+
+    @Test
+    public void constructor_existingList_countsAllFlashCards() {
+        FlashCardStatistics statistics = new FlashCardStatistics(flashCards.asUnmodifiableObservableList());
+        assertEquals(3, statistics.getTotalCount());
+        assertEquals(0, statistics.getRememberedCount());
+
+        Map<Integer, Integer> expectedLevels = new LinkedHashMap<>();
+        expectedLevels.put(1, 1);
+        expectedLevels.put(2, 1);
+        expectedLevels.put(5, 1);
+        assertEquals(expectedLevels, statistics.getLevelCounts());
+
+        List<LanguageStatistics> languages = statistics.getLanguageStatistics();
+        assertEquals(3, languages.size());
+        assertEquals("English", languages.get(0).getLanguage());
+        assertEquals(3, languages.get(0).getCount());
+        assertEquals("French", languages.get(1).getLanguage());
+        assertEquals(2, languages.get(1).getCount());
+        assertEquals("German", languages.get(2).getLanguage());
+    }
+
+    @Test
+    public void getOverdueCount_timePasses_countsOnlyCardsUnderReview() {
+        FlashCardStatistics statistics = new FlashCardStatistics(flashCards.asUnmodifiableObservableList());
+        assertEquals(1, statistics.getOverdueCount(DECEMBER_15));
+        assertEquals(2, statistics.getOverdueCount(DECEMBER_25));
+        assertEquals(1, statistics.getOverdueCount(DECEMBER_15));
+    }
+
+    @Test
+    public void getDueForecast_cardsUnderReview_countsDueCardsPerDay() {
+        FlashCardStatistics statistics = new FlashCardStatistics(flashCards.asUnmodifiableObservableList());
+        // french is overdue, so it is counted today, and learnt is no longer under review
+        assertArrayEquals(new int[] {1, 0, 0, 0, 0, 1, 0}, statistics.getDueForecast(DECEMBER_15, 7));
+        assertEquals(1, statistics.getDueCount(FlashCardStatistics.getDay(DECEMBER_20)));
+        assertEquals(0, statistics.getDueCount(FlashCardStatistics.getDay(DECEMBER_15)));
+        assertEquals(2, statistics.getDueCountUntil(FlashCardStatistics.getDay(DECEMBER_25)));
+    }
+
+    @Test
+    public void update_reviewedFlashCard_recountsFlashCard() {
+        FlashCardStatistics statistics = new FlashCardStatistics(flashCards.asUnmodifiableObservableList());
+        assertEquals(1, statistics.getOverdueCount(DECEMBER_15));
+
+        french.updateLevel(true, DECEMBER_15);
+        french.recallFlashCard();
+        statistics.update(french);
+
+        assertEquals(1, statistics.getRememberedCount());
+        assertEquals(Integer.valueOf(2), statistics.getLevelCounts().get(2));
+        assertEquals(0, statistics.getOverdueCount(DECEMBER_15));
+        assertEquals(1, statistics.getLanguageStatistics().get(1).getRememberedCount());
+    }
+
+    @Test
+    public void listChanges_addAndRemove_keepCountsInSync() {
+        FlashCardStatistics statistics = new FlashCardStatistics(flashCards.asUnmodifiableObservableList());
+        statistics.getOverdueCount(DECEMBER_15);
+
+        flashCards.remove(german);
+        assertEquals(2, statistics.getTotalCount());
+        assertEquals(2, statistics.getLanguageStatistics().size());
+
+        FlashCard spanish = new FlashCardBuilder().withOriginalWord("hello", "English")
+                .withTranslatedWord("hola", "Spanish").withWhenToReview(DECEMBER_11).withLevel(1).build();
+        flashCards.add(spanish);
+        assertEquals(2, statistics.getOverdueCount(DECEMBER_15));
+        assertEquals(Integer.valueOf(2), statistics.getLevelCounts().get(1));
+
+        flashCards.setFlashCards(Arrays.asList(learnt));
+        assertEquals(1, statistics.getTotalCount());
+        assertEquals(0, statistics.getOverdueCount(DECEMBER_25));
+    }
+}
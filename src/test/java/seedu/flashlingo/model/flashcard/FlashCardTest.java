@@ -4,21 +4,27 @@ package seedu.flashlingo.model.flashcard;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Date;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.flashlingo.model.flashcard.scheduling.FsrsAlgorithm;
+import seedu.flashlingo.model.flashcard.scheduling.LeitnerAlgorithm;
+import seedu.flashlingo.model.flashcard.scheduling.Sm2Algorithm;
 import seedu.flashlingo.model.flashcard.words.OriginalWord;
 import seedu.flashlingo.model.flashcard.words.TranslatedWord;
 
 class FlashCardTest {
+    private static final long NOW = Instant.parse("2023-12-01T00:00:00Z").toEpochMilli();
     private OriginalWord originalWord = new OriginalWord("Hello", "eng");
     private TranslatedWord translatedWord = new TranslatedWord("Ni Hao", "chi");
     @Test
     void getOriginalWord() {
         FlashCard fc = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1));
 
         assertEquals(fc.getOriginalWord(), originalWord);
@@ -28,7 +34,7 @@ class FlashCardTest {
     void getTranslatedWord() {
         FlashCard fc = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1));
 
         assertEquals(fc.getTranslatedWord(), translatedWord);
@@ -38,7 +44,7 @@ class FlashCardTest {
     void getRememberannce() {
         FlashCard fc = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1),
                 true);
 
@@ -47,19 +53,18 @@ class FlashCardTest {
 
     @Test
     void getWhenToReview() {
-        Date now = new Date();
         FlashCard fc = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                now,
+                NOW,
                 new ProficiencyLevel(1));
-        assertEquals(fc.getWhenToReview(), now);
+        assertEquals(fc.getWhenToReview(), NOW);
     }
 
     @Test
     void getProficiencyLevel() {
         FlashCard fc = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1));
         assertEquals(fc.getProficiencyLevel().getLevel(), 1);
     }
@@ -68,7 +73,7 @@ class FlashCardTest {
     void isSameFlashCardEquality() {
         FlashCard fc = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1));
         assert(fc.isSameFlashCard(fc));
     }
@@ -77,11 +82,11 @@ class FlashCardTest {
     void isSameFlashCardByWord() {
         FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1));
         FlashCard fc2 = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1));
         assert(fc1.isSameFlashCard(fc2));
     }
@@ -90,11 +95,11 @@ class FlashCardTest {
     void isSameFlashCardBySameWordDifferentTranslation() {
         FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1));
         FlashCard fc2 = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("你好", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1));
         assert(!fc1.isSameFlashCard(fc2));
     }
@@ -107,25 +112,25 @@ class FlashCardTest {
     void isOverdue() {
         FlashCard fc = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(new Date().getTime() - 1000),
+                NOW - 1000,
                 new ProficiencyLevel(1));
-        assert(fc.isOverdue());
+        assert(fc.isOverdue(NOW));
     }
 
     @Test
     void isNotOverdue() {
         FlashCard fc = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(new Date().getTime() + 100000),
+                NOW + 100000,
                 new ProficiencyLevel(1));
-        assert(!fc.isOverdue());
+        assert(!fc.isOverdue(NOW));
     }
 
     @Test
     void isSameLanguageByOriginalWord() {
         FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1));
         assert(fc1.isSameLanguage("eng"));
     }
@@ -134,7 +139,7 @@ class FlashCardTest {
     void isSameLanguageByTranslatedWord() {
         FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1));
         assert(fc1.isSameLanguage("chi"));
     }
@@ -143,7 +148,7 @@ class FlashCardTest {
     void isNotSameLanguage() {
         FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                new Date(),
+                NOW,
                 new ProficiencyLevel(1));
         assert(!fc1.isSameLanguage("jap"));
     }
@@ -151,65 +156,124 @@ class FlashCardTest {
     @Test
     void testToString() {
         ProficiencyLevel level = new ProficiencyLevel(1);
-        Date date = new Date(new Date().getTime() + 100000);
+        long date = NOW + 100000;
         FlashCard fc1 = new FlashCard(originalWord,
                 translatedWord,
                 date,
                 level);
         assertEquals(fc1.toString(), originalWord + " | "
                 + originalWord.getLanguage() + " | " + translatedWord + " | "
-                + translatedWord.getLanguage() + " | " + date.toString() + " | " + level + "\n");
+                + translatedWord.getLanguage() + " | " + Instant.ofEpochMilli(date) + " | " + level + "\n");
     }
 
     @Test
     void handleUserInputSuccess() {
-        Date date = new Date();
         FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                date,
+                NOW,
                 new ProficiencyLevel(1));
-        fc1.updateLevel(true);
+        fc1.updateLevel(true, NOW);
         assertEquals(fc1.getProficiencyLevel().getLevel(), 2);
         assert(!fc1.isDeletedFromReview());
-        assert(!fc1.getWhenToReview().equals(date));
+        assertEquals(NOW + fc1.getProficiencyLevel().calculateNextReviewInterval(), fc1.getWhenToReview());
     }
 
     @Test
     void handleUserInputFailure() {
-        Date date = new Date();
         FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                date,
+                NOW,
                 new ProficiencyLevel(2));
-        fc1.updateLevel(false);
+        fc1.updateLevel(false, NOW);
         assertEquals(fc1.getProficiencyLevel().getLevel(), 1);
         assert(!fc1.isDeletedFromReview());
-        assert(!fc1.getWhenToReview().equals(date));
+        assertEquals(NOW + fc1.getProficiencyLevel().calculateNextReviewInterval(), fc1.getWhenToReview());
     }
 
     @Test
     void handleUserInputFailureWhenLevelIsBase() {
-        Date date = new Date();
         FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                date,
+                NOW,
                 new ProficiencyLevel(1));
-        fc1.updateLevel(false);
+        fc1.updateLevel(false, NOW);
         assertEquals(fc1.getProficiencyLevel().getLevel(), 1);
         assert(!fc1.isDeletedFromReview());
-        assert(!fc1.getWhenToReview().equals(date));
+        assertEquals(NOW + fc1.getProficiencyLevel().calculateNextReviewInterval(), fc1.getWhenToReview());
     }
 
     @Test
     void handleUserInputSuccessWhenAtMaxLevel() {
-        Date date = new Date();
         FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
                 new TranslatedWord("Ni Hao", "chi"),
-                date,
+                NOW,
                 new ProficiencyLevel(5));
-        fc1.updateLevel(true);
+        fc1.updateLevel(true, NOW);
         assertEquals(fc1.getProficiencyLevel().getLevel(), 6);
         assert(fc1.isDeletedFromReview());
-        assert(!fc1.getWhenToReview().equals(date));
+        assertEquals(NOW + fc1.getProficiencyLevel().calculateNextReviewInterval(), fc1.getWhenToReview());
+    }
+
+    @Test
+    void handleUserInputSuccessWhenAtMaxLevelWithSm2() {
+        FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
+                new TranslatedWord("Ni Hao", "chi"),
+                NOW,
+                new ProficiencyLevel(5));
+        fc1.updateLevel(true, NOW, new Sm2Algorithm());
+        assertEquals(fc1.getProficiencyLevel().getLevel(), 6);
+        assert(!fc1.isDeletedFromReview());
+    }
+
+    @Test
+    void handleUserInputSuccessWhenAtMaxLevelWithFsrs() {
+        FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
+                new TranslatedWord("Ni Hao", "chi"),
+                NOW,
+                new ProficiencyLevel(5));
+        fc1.updateLevel(true, NOW, new FsrsAlgorithm());
+        assertEquals(fc1.getProficiencyLevel().getLevel(), 6);
+        assert(!fc1.isDeletedFromReview());
+    }
+
+    @Test
+    void handleUserInputSuccessToRetirementLevelWithLeitner() {
+        FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
+                new TranslatedWord("Ni Hao", "chi"),
+                NOW,
+                new ProficiencyLevel(4));
+        fc1.updateLevel(true, NOW, new LeitnerAlgorithm());
+        assertEquals(fc1.getProficiencyLevel().getLevel(), LeitnerAlgorithm.RETIREMENT_LEVEL);
+        assert(fc1.isDeletedFromReview());
+    }
+
+    @Test
+    void hashCodeConsistentWithEquals() {
+        FlashCard fc1 = new FlashCard(new OriginalWord("Hello", "eng"),
+                new TranslatedWord("Ni Hao", "chi"),
+                NOW,
+                new ProficiencyLevel(1));
+        FlashCard fc2 = new FlashCard(new OriginalWord("HELLO", "ENG"),
+                new TranslatedWord("ni hao", "Chi"),
+                0,
+                new ProficiencyLevel(3));
+        assert(fc1.equals(fc2));
+        assertEquals(fc1.hashCode(), fc2.hashCode());
+        assertEquals(fc1.getKey(), fc2.getKey());
+
+        // reviewing does not change the hash code
+        int hashCode = fc1.hashCode();
+        fc1.updateLevel(true, NOW);
+        assertEquals(hashCode, fc1.hashCode());
+        assertTrue(new HashSet<>(List.of(fc1)).contains(fc2));
+    }
+
+    @Test
+    void keyDiffersWithLanguage() {
+        FlashCard fc1 = new FlashCard(originalWord, translatedWord, NOW, new ProficiencyLevel(1));
+        FlashCard fc2 = new FlashCard(new OriginalWord("Hello", "fr"), translatedWord, NOW,
+                new ProficiencyLevel(1));
+        assert(!fc1.getKey().equals(fc2.getKey()));
+        assert(!fc1.equals(fc2));
     }
 }
@@ -0,0 +1,91 @@
+package seedu.flashlingo.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashlingo.testutil.TypicalFlashCards.ALICE;
+import static seedu.flashlingo.testutil.TypicalFlashCards.BENSON;
+import static seedu.flashlingo.testutil.TypicalFlashCards.DANIEL;
+import static seedu.flashlingo.testutil.TypicalFlashCards.ELLE;
+import static seedu.flashlingo.testutil.TypicalFlashCards.getTypicalFlashCards;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.flashlingo.testutil.FlashCardBuilder;
+
+public class FuzzyWordIndexTest {
+
+    private final UniqueFlashCardList flashCards = new UniqueFlashCardList();
+    private FuzzyWordIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        flashCards.setFlashCards(getTypicalFlashCards());
+        index = new FuzzyWordIndex(flashCards.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void findAny_keywords_sameAsPredicate() {
+        for (String keyword : Arrays.asList("meier", "MEIR", "meyr", "mayor", "Alise", "pualine", "alice pauline",
+                "Kurtz", "Ku", "", "本森·梅尔", "本森梅尔", "zzzzzz")) {
+            assertMatches(Collections.singletonList(keyword));
+        }
+        assertMatches(Arrays.asList("Meir", "Meyer"));
+        assertMatches(Arrays.asList("alise", "本森·梅尔"));
+    }
+
+    @Test
+    public void findAny_typos_found() {
+        assertEquals(Set.of(BENSON, DANIEL), index.findAny(Collections.singletonList("meir")));
+        assertEquals(Set.of(ALICE), index.findAny(Collections.singletonList("Alise Paulin")));
+        assertTrue(index.findAny(Collections.singletonList("alxse")).isEmpty());
+    }
+
+    @Test
+    public void listChanges_addEditAndRemove_keepIndexInSync() {
+        FlashCard newFlashCard = new FlashCardBuilder().withOriginalWord("Meierhof", "German")
+                .withTranslatedWord("farm", "English").build();
+        flashCards.add(newFlashCard);
+        assertTrue(index.findAny(Collections.singletonList("meierhoff")).contains(newFlashCard));
+
+        FlashCard editedDaniel = new FlashCardBuilder(DANIEL).withOriginalWord("Daniel Smith", "English").build();
+        flashCards.setFlashCard(DANIEL, editedDaniel);
+        flashCards.remove(BENSON);
+        assertMatches(Collections.singletonList("meier"));
+        assertMatches(Collections.singletonList("smyth"));
+        assertMatches(Collections.singletonList("benson"));
+
+        // removing most cards rebuilds the tree
+        flashCards.remove(ALICE);
+        flashCards.remove(editedDaniel);
+        flashCards.remove(newFlashCard);
+        flashCards.remove(ELLE);
+        assertMatches(Collections.singletonList("meyer"));
+        assertMatches(Collections.singletonList("kurz"));
+
+        flashCards.setFlashCards(getTypicalFlashCards());
+        assertMatches(Collections.singletonList("meier"));
+    }
+
+    /**
+     * Asserts that the index finds exactly the cards that {@link WordSimilarToKeywordsPredicate} accepts.
+     */
+    private void assertMatches(List<String> keywords) {
+        WordSimilarToKeywordsPredicate predicate = new WordSimilarToKeywordsPredicate(keywords);
+        Set<FlashCard> expected = new HashSet<>();
+        for (FlashCard flashCard : flashCards) {
+            if (predicate.test(flashCard)) {
+                expected.add(flashCard);
+            }
+        }
+        Set<FlashCard> found = index.findAny(keywords);
+        assertEquals(expected.size(), found.size(), keywords.toString());
+        assertTrue(expected.containsAll(found), keywords.toString());
+    }
+}
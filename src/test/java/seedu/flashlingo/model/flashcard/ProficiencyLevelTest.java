@@ -2,6 +2,7 @@
 package seedu.flashlingo.model.flashcard;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import org.junit.jupiter.api.Test;
 
@@ -52,4 +53,14 @@ class ProficiencyLevelTest {
         pl1.setLevel(6);
         assertEquals(pl1.getLevel(), 6);
     }
+
+    @Test
+    void copy() {
+        ProficiencyLevel pl1 = new ProficiencyLevel(4, 2.1, 12.5, 6.2, 86400000L);
+        ProficiencyLevel pl2 = pl1.copy();
+        assertEquals(pl1, pl2);
+        pl2.setStability(20);
+        assertNotEquals(pl1, pl2);
+        assertEquals(12.5, pl1.getStability());
+    }
 }
@@ -0,0 +1,84 @@
+package seedu.flashlingo.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithm.DAY_IN_MS;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashlingo.model.flashcard.scheduling.LeitnerAlgorithm;
+import seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithm;
+import seedu.flashlingo.testutil.FlashCardBuilder;
+
+public class ReviewLoadBalancerTest {
+    private static final long TODAY = 1000;
+    private static final long NOW = TODAY * DAY_IN_MS + DAY_IN_MS / 2;
+
+    private final UniqueFlashCardList flashCards = new UniqueFlashCardList();
+    private final FlashCardStatistics statistics = new FlashCardStatistics(flashCards.asUnmodifiableObservableList());
+
+    @Test
+    public void scheduleNewCard_daysFull_spreadsOverLaterDays() {
+        addFlashCardsDueOn(TODAY - 1, 1); // overdue, so counted today
+        addFlashCardsDueOn(TODAY + 1, 1);
+        ReviewLoadBalancer loadBalancer = new ReviewLoadBalancer(statistics, 2);
+        assertEquals(NOW, loadBalancer.scheduleNewCard(NOW));
+        assertEquals((TODAY + 1) * DAY_IN_MS, loadBalancer.scheduleNewCard(NOW));
+        assertEquals((TODAY + 2) * DAY_IN_MS, loadBalancer.scheduleNewCard(NOW));
+        assertEquals((TODAY + 2) * DAY_IN_MS, loadBalancer.scheduleNewCard(NOW));
+        assertEquals((TODAY + 3) * DAY_IN_MS, loadBalancer.scheduleNewCard(NOW));
+    }
+
+    @Test
+    public void scheduleNewCard_noCap_dueNow() {
+        addFlashCardsDueOn(TODAY, 5);
+        ReviewLoadBalancer loadBalancer = new ReviewLoadBalancer(statistics, 0);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(NOW, loadBalancer.scheduleNewCard(NOW));
+        }
+    }
+
+    @Test
+    public void balance_shortInterval_unchanged() {
+        addFlashCardsDueOn(TODAY + 2, 3);
+        assertEquals(2 * DAY_IN_MS, new ReviewLoadBalancer(statistics, 1).balance(NOW, 2 * DAY_IN_MS));
+    }
+
+    @Test
+    public void balance_targetDayUnderCap_unchanged() {
+        addFlashCardsDueOn(TODAY + 20, 1);
+        assertEquals(20 * DAY_IN_MS, new ReviewLoadBalancer(statistics, 2).balance(NOW, 20 * DAY_IN_MS));
+    }
+
+    @Test
+    public void balance_targetDayFull_movesToNearestDayUnderCap() {
+        addFlashCardsDueOn(TODAY + 19, 1);
+        addFlashCardsDueOn(TODAY + 20, 1);
+        assertEquals(21 * DAY_IN_MS, new ReviewLoadBalancer(statistics, 1).balance(NOW, 20 * DAY_IN_MS));
+    }
+
+    @Test
+    public void balance_allDaysFull_movesToLeastLoadedDay() {
+        addFlashCardsDueOn(TODAY + 19, 2);
+        addFlashCardsDueOn(TODAY + 20, 3);
+        addFlashCardsDueOn(TODAY + 21, 1);
+        assertEquals(21 * DAY_IN_MS, new ReviewLoadBalancer(statistics, 1).balance(NOW, 20 * DAY_IN_MS));
+    }
+
+    @Test
+    public void balancing_reviewedFlashCard_intervalBalanced() {
+        addFlashCardsDueOn(TODAY + 4, 1);
+        FlashCard flashCard = new FlashCardBuilder().withLevel(3).build();
+        SchedulingAlgorithm algorithm = new ReviewLoadBalancer(statistics, 1).balancing(new LeitnerAlgorithm(), NOW);
+        flashCard.updateLevel(true, NOW, algorithm);
+        // the fourth level is due 4 days later, which is full
+        assertEquals(NOW + 3 * DAY_IN_MS, flashCard.getWhenToReview());
+        assertEquals(3 * DAY_IN_MS, flashCard.getProficiencyLevel().getLastInterval());
+    }
+
+    private void addFlashCardsDueOn(long day, int count) {
+        for (int i = 0; i < count; i++) {
+            flashCards.add(new FlashCardBuilder().withOriginalWord("word" + day + "-" + i, "English")
+                    .withWhenToReview(day * DAY_IN_MS).build());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.flashlingo.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.GregorianCalendar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.flashlingo.testutil.FlashCardBuilder;
+
+public class ReviewSchedulerTest {
+
+    private static final long NOW = new GregorianCalendar(2023, 11, 20).getTimeInMillis();
+
+    private final UniqueFlashCardList flashCards = new UniqueFlashCardList();
+    private FlashCard dueFirst;
+    private FlashCard dueSecond;
+    private FlashCard notDue;
+
+    @BeforeEach
+    public void setUp() {
+        dueSecond = buildFlashCard("second", new GregorianCalendar(2023, 11, 12).getTimeInMillis(), 1);
+        dueFirst = buildFlashCard("first", new GregorianCalendar(2023, 11, 11).getTimeInMillis(), 1);
+        notDue = buildFlashCard("later", new GregorianCalendar(2023, 11, 25).getTimeInMillis(), 1);
+        flashCards.add(dueSecond);
+        flashCards.add(notDue);
+        flashCards.add(dueFirst);
+    }
+
+    private static FlashCard buildFlashCard(String word, long whenToReview, int level) {
+        return new FlashCardBuilder().withOriginalWord(word, "English").withTranslatedWord(word + "!", "French")
+                .withWhenToReview(whenToReview).withLevel(level).build();
+    }
+
+    @Test
+    public void getNextOverdue_existingList_returnsLongestOverdue() {
+        ReviewScheduler scheduler = new ReviewScheduler(flashCards.asUnmodifiableObservableList());
+        assertSame(dueFirst, scheduler.getNextOverdue(NOW).get());
+        assertEquals(3, scheduler.size());
+    }
+
+    @Test
+    public void getNextOverdue_nothingDue_returnsEmpty() {
+        ReviewScheduler scheduler = new ReviewScheduler(flashCards.asUnmodifiableObservableList());
+        assertFalse(scheduler.getNextOverdue(dueFirst.getWhenToReview()).isPresent());
+    }
+
+    @Test
+    public void getNextOverdue_sameDueTime_returnsFirstScheduled() {
+        FlashCard sameTime = buildFlashCard("same", dueFirst.getWhenToReview(), 1);
+        UniqueFlashCardList list = new UniqueFlashCardList();
+        list.add(sameTime);
+        list.add(dueFirst);
+        ReviewScheduler scheduler = new ReviewScheduler(list.asUnmodifiableObservableList());
+        assertSame(sameTime, scheduler.getNextOverdue(NOW).get());
+    }
+
+    @Test
+    public void getOverdue_limit_returnsLongestOverdueInOrder() {
+        FlashCard dueThird = buildFlashCard("third", new GregorianCalendar(2023, 11, 13).getTimeInMillis(), 1);
+        flashCards.add(dueThird);
+        ReviewScheduler scheduler = new ReviewScheduler(flashCards.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(dueFirst, dueSecond, dueThird), scheduler.getOverdue(NOW, 5));
+        assertEquals(Arrays.asList(dueFirst, dueSecond), scheduler.getOverdue(NOW, 2));
+        assertEquals(Collections.emptyList(), scheduler.getOverdue(dueFirst.getWhenToReview(), 5));
+    }
+
+    @Test
+    public void listChanges_addRemoveAndSet_keepSchedulerInSync() {
+        ReviewScheduler scheduler = new ReviewScheduler(flashCards.asUnmodifiableObservableList());
+        FlashCard earliest = buildFlashCard("earliest", new GregorianCalendar(2023, 11, 1).getTimeInMillis(), 1);
+        flashCards.add(earliest);
+        assertSame(earliest, scheduler.getNextOverdue(NOW).get());
+
+        flashCards.remove(earliest);
+        assertSame(dueFirst, scheduler.getNextOverdue(NOW).get());
+
+        FlashCard edited = buildFlashCard("edited", new GregorianCalendar(2023, 11, 30).getTimeInMillis(), 1);
+        flashCards.setFlashCard(dueFirst, edited);
+        assertSame(dueSecond, scheduler.getNextOverdue(NOW).get());
+        assertEquals(3, scheduler.size());
+    }
+
+    @Test
+    public void reschedule_reviewedFlashCard_movesBehindOthers() {
+        ReviewScheduler scheduler = new ReviewScheduler(flashCards.asUnmodifiableObservableList());
+        dueFirst.updateLevel(true, NOW);
+        scheduler.reschedule(dueFirst);
+        assertSame(dueSecond, scheduler.getNextOverdue(NOW).get());
+    }
+
+    @Test
+    public void reschedule_flashCardDeletedFromReview_unscheduled() {
+        ReviewScheduler scheduler = new ReviewScheduler(flashCards.asUnmodifiableObservableList());
+        dueFirst.getProficiencyLevel().setRetired(true);
+        scheduler.reschedule(dueFirst);
+        assertEquals(2, scheduler.size());
+
+        flashCards.add(buildFlashCard("learnt", new GregorianCalendar(2023, 11, 1).getTimeInMillis(), 5));
+        assertSame(dueSecond, scheduler.getNextOverdue(NOW).get());
+    }
+}
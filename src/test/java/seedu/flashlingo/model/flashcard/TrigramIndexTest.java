@@ -0,0 +1,93 @@
+package seedu.flashlingo.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashlingo.testutil.TypicalFlashCards.ALICE;
+import static seedu.flashlingo.testutil.TypicalFlashCards.BENSON;
+import static seedu.flashlingo.testutil.TypicalFlashCards.DANIEL;
+import static seedu.flashlingo.testutil.TypicalFlashCards.ELLE;
+import static seedu.flashlingo.testutil.TypicalFlashCards.getTypicalFlashCards;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.flashlingo.testutil.FlashCardBuilder;
+
+public class TrigramIndexTest {
+
+    private final UniqueFlashCardList flashCards = new UniqueFlashCardList();
+    private TrigramIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        flashCards.setFlashCards(getTypicalFlashCards());
+        index = new TrigramIndex(flashCards.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void findAny_keywords_sameAsPredicate() {
+        for (String keyword : Arrays.asList("meier", "MEY", "Me", "e", "", "ier·", "尔", "梅尔", "Kurz", "urzz",
+                "Alice Pauline", "lice pa", "zzz")) {
+            assertMatches(Collections.singletonList(keyword));
+        }
+        assertMatches(Arrays.asList("Meier", "Meyer"));
+        assertMatches(Arrays.asList("alice", "本森"));
+    }
+
+    @Test
+    public void findAny_keywordWithAllTrigramsButNotContained_noMatch() {
+        FlashCard flashCard = new FlashCardBuilder().withOriginalWord("abcd bcde", "English")
+                .withTranslatedWord("xyz", "French").build();
+        flashCards.add(flashCard);
+        assertTrue(index.findAny(Collections.singletonList("abcde")).isEmpty());
+        assertEquals(Collections.singleton(flashCard), index.findAny(Collections.singletonList("bcd bcde")));
+    }
+
+    @Test
+    public void listChanges_addEditAndRemove_keepIndexInSync() {
+        FlashCard newFlashCard = new FlashCardBuilder().withOriginalWord("Meierhof", "German")
+                .withTranslatedWord("farm", "English").build();
+        flashCards.add(newFlashCard);
+        assertTrue(index.findAny(Collections.singletonList("meierhof")).contains(newFlashCard));
+
+        FlashCard editedDaniel = new FlashCardBuilder(DANIEL).withOriginalWord("Daniel Smith", "English").build();
+        flashCards.setFlashCard(DANIEL, editedDaniel);
+        flashCards.remove(BENSON);
+        assertMatches(Collections.singletonList("meier"));
+        assertMatches(Collections.singletonList("smith"));
+        assertMatches(Collections.singletonList("ben"));
+
+        // removing most cards rebuilds the index
+        flashCards.remove(ALICE);
+        flashCards.remove(editedDaniel);
+        flashCards.remove(newFlashCard);
+        flashCards.remove(ELLE);
+        assertMatches(Collections.singletonList("er"));
+        assertMatches(Collections.singletonList("kurz"));
+
+        flashCards.setFlashCards(getTypicalFlashCards());
+        assertMatches(Collections.singletonList("meier"));
+    }
+
+    /**
+     * Asserts that the index finds exactly the cards that {@link WordContainsKeywordsPredicate} accepts.
+     */
+    private void assertMatches(List<String> keywords) {
+        WordContainsKeywordsPredicate predicate = new WordContainsKeywordsPredicate(keywords);
+        Set<FlashCard> expected = new HashSet<>();
+        for (FlashCard flashCard : flashCards) {
+            if (predicate.test(flashCard)) {
+                expected.add(flashCard);
+            }
+        }
+        Set<FlashCard> found = index.findAny(keywords);
+        assertEquals(expected.size(), found.size(), keywords.toString());
+        assertTrue(expected.containsAll(found), keywords.toString());
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.flashlingo.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashlingo.testutil.Assert.assertThrows;
+import static seedu.flashlingo.testutil.TypicalFlashCards.ALICE;
+import static seedu.flashlingo.testutil.TypicalFlashCards.BENSON;
+import static seedu.flashlingo.testutil.TypicalFlashCards.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.flashlingo.model.flashcard.exceptions.DuplicateFlashCardException;
+import seedu.flashlingo.model.flashcard.exceptions.FlashCardNotFoundException;
+import seedu.flashlingo.testutil.FlashCardBuilder;
+
+public class UniqueFlashCardListTest {
+
+    private final UniqueFlashCardList uniqueFlashCardList = new UniqueFlashCardList();
+
+    @Test
+    public void contains_nullFlashCard_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueFlashCardList.contains(null));
+    }
+
+    @Test
+    public void contains_flashCardWithSameIdentityDifferentCase_returnsTrue() {
+        uniqueFlashCardList.add(ALICE);
+        FlashCard editedAlice = new FlashCardBuilder(ALICE)
+                .withOriginalWord("ALICE PAULINE", "english").build();
+        assertTrue(uniqueFlashCardList.contains(editedAlice));
+    }
+
+    @Test
+    public void add_duplicateFlashCard_throwsDuplicateFlashCardException() {
+        uniqueFlashCardList.add(ALICE);
+        assertThrows(DuplicateFlashCardException.class, () -> uniqueFlashCardList.add(ALICE));
+    }
+
+    @Test
+    public void addAll_duplicateFlashCards_addsOthersInOneChange() {
+        uniqueFlashCardList.add(ALICE);
+        FlashCard benson = new FlashCardBuilder(BENSON).build();
+        FlashCard bensonDifferentCase = new FlashCardBuilder(BENSON)
+                .withOriginalWord(BENSON.getOriginalWord().getWord().toUpperCase(),
+                        BENSON.getOriginalWord().getLanguage()).build();
+        List<Integer> addedSizes = new ArrayList<>();
+        uniqueFlashCardList.asUnmodifiableObservableList().addListener((ListChangeListener<FlashCard>) change -> {
+            while (change.next()) {
+                addedSizes.add(change.getAddedSize());
+            }
+        });
+
+        List<FlashCard> added = uniqueFlashCardList.addAll(Arrays.asList(ALICE, benson, CARL, bensonDifferentCase));
+        assertEquals(Arrays.asList(benson, CARL), added);
+        assertEquals(Arrays.asList(ALICE, benson, CARL), uniqueFlashCardList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(2), addedSizes);
+        assertTrue(uniqueFlashCardList.contains(bensonDifferentCase));
+    }
+
+    @Test
+    public void addAll_nullFlashCard_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueFlashCardList.addAll(Arrays.asList(ALICE, null)));
+        assertFalse(uniqueFlashCardList.contains(ALICE));
+    }
+
+    @Test
+    public void getFlashCardsInLanguage_mutations_keepPartitionsInSync() {
+        uniqueFlashCardList.setFlashCards(Arrays.asList(ALICE, BENSON));
+        assertEquals(2, uniqueFlashCardList.getFlashCardsInLanguage("english").size());
+        assertEquals(2, uniqueFlashCardList.getFlashCardsInLanguage("MANDARIN").size());
+
+        FlashCard french = new FlashCardBuilder(ALICE).withTranslatedWord("Alice", "French").build();
+        uniqueFlashCardList.setFlashCard(ALICE, french);
+        assertTrue(uniqueFlashCardList.getFlashCardsInLanguage("French").contains(french));
+        assertFalse(uniqueFlashCardList.getFlashCardsInLanguage("Mandarin").contains(ALICE));
+
+        uniqueFlashCardList.remove(new FlashCardBuilder(BENSON).build());
+        assertTrue(uniqueFlashCardList.getFlashCardsInLanguage("Mandarin").isEmpty());
+        uniqueFlashCardList.addAll(Arrays.asList(CARL));
+        assertEquals(2, uniqueFlashCardList.getFlashCardsInLanguage("English").size());
+        assertTrue(uniqueFlashCardList.getFlashCardsInLanguage("German").isEmpty());
+    }
+
+    @Test
+    public void setFlashCard_editedFlashCardHasDifferentIdentity_updatesIndex() {
+        uniqueFlashCardList.add(ALICE);
+        uniqueFlashCardList.setFlashCard(ALICE, BENSON);
+        assertFalse(uniqueFlashCardList.contains(ALICE));
+        assertTrue(uniqueFlashCardList.contains(BENSON));
+        uniqueFlashCardList.add(ALICE);
+        assertEquals(2, uniqueFlashCardList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void setFlashCard_editedFlashCardHasNonUniqueIdentity_throwsDuplicateFlashCardException() {
+        uniqueFlashCardList.add(ALICE);
+        uniqueFlashCardList.add(BENSON);
+        assertThrows(DuplicateFlashCardException.class, () -> uniqueFlashCardList.setFlashCard(ALICE, BENSON));
+    }
+
+    @Test
+    public void remove_flashCardDoesNotExist_throwsFlashCardNotFoundException() {
+        assertThrows(FlashCardNotFoundException.class, () -> uniqueFlashCardList.remove(ALICE));
+    }
+
+    @Test
+    public void remove_existingFlashCard_removesFromIndex() {
+        uniqueFlashCardList.add(ALICE);
+        uniqueFlashCardList.remove(ALICE);
+        assertFalse(uniqueFlashCardList.contains(ALICE));
+        uniqueFlashCardList.add(ALICE);
+        assertTrue(uniqueFlashCardList.contains(ALICE));
+    }
+
+    @Test
+    public void setFlashCards_listWithDuplicateFlashCards_throwsDuplicateFlashCardException() {
+        uniqueFlashCardList.add(CARL);
+        List<FlashCard> listWithDuplicateFlashCards = Arrays.asList(ALICE, BENSON, ALICE);
+        assertThrows(DuplicateFlashCardException.class, () ->
+                uniqueFlashCardList.setFlashCards(listWithDuplicateFlashCards));
+        // the list and its index are left untouched
+        assertTrue(uniqueFlashCardList.contains(CARL));
+        assertFalse(uniqueFlashCardList.contains(ALICE));
+    }
+
+    @Test
+    public void setFlashCards_list_replacesOwnListAndIndex() {
+        uniqueFlashCardList.add(CARL);
+        uniqueFlashCardList.setFlashCards(Arrays.asList(ALICE, BENSON));
+        assertFalse(uniqueFlashCardList.contains(CARL));
+        assertTrue(uniqueFlashCardList.contains(ALICE));
+        assertTrue(uniqueFlashCardList.contains(BENSON));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniqueFlashCardList.asUnmodifiableObservableList());
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.flashlingo.model.flashcard.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithm.DAY_IN_MS;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashlingo.model.flashcard.ProficiencyLevel;
+
+public class FsrsAlgorithmTest {
+    private final FsrsAlgorithm algorithm = new FsrsAlgorithm();
+
+    @Test
+    public void schedule_firstReview_initialStateFromGrade() {
+        ProficiencyLevel remembered = new ProficiencyLevel(1);
+        assertEquals(Math.round(2.4 * DAY_IN_MS), algorithm.schedule(remembered, true, 0));
+        assertEquals(2.4, remembered.getStability());
+        assertEquals(4.93, remembered.getDifficulty());
+
+        // intervals are at least a day
+        ProficiencyLevel forgotten = new ProficiencyLevel(1);
+        assertEquals(DAY_IN_MS, algorithm.schedule(forgotten, false, 0));
+        assertEquals(0.4, forgotten.getStability());
+        assertEquals(6.81, forgotten.getDifficulty(), 1e-9);
+    }
+
+    @Test
+    public void schedule_rememberedWhenDue_stabilityGrows() {
+        ProficiencyLevel level = new ProficiencyLevel(2, ProficiencyLevel.DEFAULT_EASE_FACTOR, 10, 5, 10 * DAY_IN_MS);
+        long interval = algorithm.schedule(level, true, 10 * DAY_IN_MS);
+        assertTrue(level.getStability() > 10);
+        assertEquals(Math.round(level.getStability() * DAY_IN_MS), interval);
+    }
+
+    @Test
+    public void schedule_forgottenWhenDue_stabilityFallsAndDifficultyRises() {
+        ProficiencyLevel level = new ProficiencyLevel(2, ProficiencyLevel.DEFAULT_EASE_FACTOR, 10, 5, 10 * DAY_IN_MS);
+        algorithm.schedule(level, false, 10 * DAY_IN_MS);
+        assertTrue(level.getStability() < 10);
+        assertTrue(level.getDifficulty() > 5);
+    }
+
+    @Test
+    public void schedule_rememberedLate_stabilityGrowsMore() {
+        ProficiencyLevel onTime = new ProficiencyLevel(2, ProficiencyLevel.DEFAULT_EASE_FACTOR, 10, 5, 10 * DAY_IN_MS);
+        ProficiencyLevel late = onTime.copy();
+        algorithm.schedule(onTime, true, 10 * DAY_IN_MS);
+        algorithm.schedule(late, true, 20 * DAY_IN_MS);
+        assertTrue(late.getStability() > onTime.getStability());
+    }
+}
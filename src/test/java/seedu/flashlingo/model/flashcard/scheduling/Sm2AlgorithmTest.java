@@ -0,0 +1,51 @@
+package seedu.flashlingo.model.flashcard.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.flashlingo.model.flashcard.scheduling.SchedulingAlgorithm.DAY_IN_MS;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.model.flashcard.ProficiencyLevel;
+import seedu.flashlingo.testutil.FlashCardBuilder;
+
+public class Sm2AlgorithmTest {
+    private final Sm2Algorithm algorithm = new Sm2Algorithm();
+
+    @Test
+    public void schedule_successes_intervalsGrowByEaseFactor() {
+        FlashCard flashCard = new FlashCardBuilder().build();
+
+        flashCard.updateLevel(true, flashCard.getWhenToReview(), algorithm);
+        assertEquals(DAY_IN_MS, flashCard.getProficiencyLevel().getLastInterval());
+
+        flashCard.updateLevel(true, flashCard.getWhenToReview(), algorithm);
+        assertEquals(6 * DAY_IN_MS, flashCard.getProficiencyLevel().getLastInterval());
+
+        long now = flashCard.getWhenToReview();
+        flashCard.updateLevel(true, now, algorithm);
+        double easeFactor = flashCard.getProficiencyLevel().getEaseFactor();
+        assertEquals(ProficiencyLevel.DEFAULT_EASE_FACTOR + 0.3, easeFactor, 1e-9);
+        assertEquals(now + Math.round(6 * DAY_IN_MS * easeFactor), flashCard.getWhenToReview());
+    }
+
+    @Test
+    public void schedule_failure_restartsAndLowersEaseFactor() {
+        ProficiencyLevel level = new ProficiencyLevel(3, ProficiencyLevel.DEFAULT_EASE_FACTOR, 0, 0, 20 * DAY_IN_MS);
+        assertEquals(DAY_IN_MS, algorithm.schedule(level, false, 20 * DAY_IN_MS));
+        assertEquals(ProficiencyLevel.DEFAULT_EASE_FACTOR - 0.32, level.getEaseFactor(), 1e-9);
+
+        // the next success is followed by the second interval
+        level.setLastInterval(DAY_IN_MS);
+        assertEquals(6 * DAY_IN_MS, algorithm.schedule(level, true, DAY_IN_MS));
+    }
+
+    @Test
+    public void schedule_repeatedFailures_easeFactorAtLeastMinimum() {
+        ProficiencyLevel level = new ProficiencyLevel(1);
+        for (int i = 0; i < 10; i++) {
+            algorithm.schedule(level, false, DAY_IN_MS);
+        }
+        assertEquals(Sm2Algorithm.MIN_EASE_FACTOR, level.getEaseFactor());
+    }
+}
@@ -2,6 +2,7 @@
 package seedu.flashlingo.model.flashcard.word;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -51,6 +52,16 @@ class OriginalWordTest {
         assert(!ogWord3.equals(ogWord4));
     }
 
+    @Test
+    void testEqualsDifferentCaseAndComposition() {
+        OriginalWord composed = new OriginalWord("Honn\u00eaTE", "French");
+        OriginalWord decomposed = new OriginalWord("honne\u0302te", "FRENCH");
+        assert(composed.equals(decomposed));
+        assertEquals(composed.hashCode(), decomposed.hashCode());
+        assert(composed.hasSubpart("E\u0302T"));
+        assertSame(composed.getNormalizedLanguage(), decomposed.getNormalizedLanguage());
+    }
+
     @Test
     void testToString() {
         OriginalWord ogWord = new OriginalWord("Hello", " eng ");
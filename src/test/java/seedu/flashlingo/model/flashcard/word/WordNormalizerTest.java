@@ -0,0 +1,43 @@
+package seedu.flashlingo.model.flashcard.word;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.flashlingo.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashlingo.model.flashcard.words.WordNormalizer;
+
+public class WordNormalizerTest {
+
+    @Test
+    public void normalize_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> WordNormalizer.normalize(null));
+    }
+
+    @Test
+    public void normalize_matchesEqualsIgnoreCase() {
+        assertEquals(WordNormalizer.normalize("Hello"), WordNormalizer.normalize("hELLO"));
+        assertEquals(WordNormalizer.normalize("Straße"), WordNormalizer.normalize("STRAßE"));
+        assertNotEquals(WordNormalizer.normalize("hello"), WordNormalizer.normalize("hello "));
+        assertNotEquals(WordNormalizer.normalize("honnête"), WordNormalizer.normalize("honnete"));
+    }
+
+    @Test
+    public void normalize_combiningMarks_composed() {
+        assertEquals("honn\u00eate", WordNormalizer.normalize("HONNE\u0302TE"));
+    }
+
+    @Test
+    public void normalize_alreadyNormalized_sameInstance() {
+        String word = new String("你好 world");
+        assertSame(word, WordNormalizer.normalize(word));
+    }
+
+    @Test
+    public void internLanguage_equalLanguages_sameInstance() {
+        String language = WordNormalizer.internLanguage(new String("Klingon"));
+        assertSame(language, WordNormalizer.internLanguage(new String("Klingon")));
+    }
+}
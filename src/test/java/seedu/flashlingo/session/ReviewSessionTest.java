@@ -0,0 +1,51 @@
+package seedu.flashlingo.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashlingo.testutil.TypicalFlashCards.ALICE;
+import static seedu.flashlingo.testutil.TypicalFlashCards.BENSON;
+import static seedu.flashlingo.testutil.TypicalFlashCards.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ReviewSessionTest {
+
+    @Test
+    public void advance_rememberedCards_reviewsBatchInOrder() {
+        ReviewSession reviewSession = new ReviewSession(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(Optional.of(ALICE), reviewSession.getCurrentCard());
+
+        assertTrue(reviewSession.advance(false));
+        assertEquals(Optional.of(BENSON), reviewSession.getCurrentCard());
+
+        assertTrue(reviewSession.advance(false));
+        assertEquals(Optional.of(CARL), reviewSession.getCurrentCard());
+
+        assertFalse(reviewSession.advance(false));
+        assertEquals(Optional.empty(), reviewSession.getCurrentCard());
+        assertFalse(reviewSession.advance(true));
+    }
+
+    @Test
+    public void advance_forgottenCard_requeuedAtEnd() {
+        ReviewSession reviewSession = new ReviewSession(Arrays.asList(ALICE, BENSON, CARL));
+        assertTrue(reviewSession.advance(true));
+        assertTrue(reviewSession.advance(false));
+        assertEquals(Optional.of(CARL), reviewSession.getCurrentCard());
+        assertTrue(reviewSession.advance(false));
+        assertEquals(Optional.of(ALICE), reviewSession.getCurrentCard());
+    }
+
+    @Test
+    public void advance_lastCardForgotten_reviewedAgain() {
+        ReviewSession reviewSession = new ReviewSession(Collections.singletonList(ALICE));
+        assertTrue(reviewSession.advance(true));
+        assertEquals(Optional.of(ALICE), reviewSession.getCurrentCard());
+        assertFalse(reviewSession.advance(false));
+    }
+}
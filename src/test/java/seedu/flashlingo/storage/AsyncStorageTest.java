@@ -0,0 +1,124 @@
+package seedu.flashlingo.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.flashlingo.testutil.Assert.assertThrows;
+import static seedu.flashlingo.testutil.TypicalFlashCards.ALICE;
+import static seedu.flashlingo.testutil.TypicalFlashCards.WORD;
+import static seedu.flashlingo.testutil.TypicalFlashCards.getTypicalFlashlingo;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashlingo.commons.core.GuiSettings;
+import seedu.flashlingo.model.Flashlingo;
+import seedu.flashlingo.model.ReadOnlyFlashlingo;
+import seedu.flashlingo.model.ReadOnlyUserPrefs;
+import seedu.flashlingo.model.UserPrefs;
+import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.model.flashcard.scheduling.Sm2Algorithm;
+import seedu.flashlingo.testutil.FlashCardBuilder;
+
+public class AsyncStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonFlashlingoStorage flashlingoStorage;
+    private JsonUserPrefsStorage userPrefsStorage;
+
+    @BeforeEach
+    public void setUp() {
+        flashlingoStorage = new JsonFlashlingoStorage(testFolder.resolve("ab"));
+        userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+    }
+
+    @Test
+    public void saveFlashlingo_flush_dataWritten() throws Exception {
+        AsyncStorage asyncStorage = new AsyncStorage(new StorageManager(flashlingoStorage, userPrefsStorage));
+        Flashlingo original = getTypicalFlashlingo();
+        asyncStorage.saveFlashlingo(original);
+        asyncStorage.flush();
+
+        assertEquals(original, new Flashlingo(flashlingoStorage.readFlashlingo().get()));
+    }
+
+    @Test
+    public void saveFlashlingo_changedAfterSave_snapshotWritten() throws Exception {
+        AsyncStorage asyncStorage = new AsyncStorage(new StorageManager(flashlingoStorage, userPrefsStorage));
+        Flashlingo original = getTypicalFlashlingo();
+        FlashCard word = new FlashCardBuilder(WORD).build();
+        original.addFlashCard(word);
+        Flashlingo expected = new Flashlingo(original);
+        int expectedLevel = word.getProficiencyLevel().getLevel();
+
+        asyncStorage.saveFlashlingo(original);
+        original.updateFlashCardLevel(word, true, word.getWhenToReview(), new Sm2Algorithm());
+        original.removeFlashCard(ALICE);
+
+        ReadOnlyFlashlingo readBack = asyncStorage.readFlashlingo().get();
+        assertEquals(expected, new Flashlingo(readBack));
+        int wordIndex = readBack.getFlashCardList().indexOf(word);
+        assertEquals(expectedLevel, readBack.getFlashCardList().get(wordIndex).getProficiencyLevel().getLevel());
+    }
+
+    @Test
+    public void saveFlashlingo_whileWriting_savesCoalesced() throws Exception {
+        CountDownLatch isFirstWriteStarted = new CountDownLatch(1);
+        CountDownLatch canFinishFirstWrite = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        StorageManager blockingStorage = new StorageManager(flashlingoStorage, userPrefsStorage) {
+            @Override
+            public void saveFlashlingo(ReadOnlyFlashlingo flashlingo, Path filePath) throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    isFirstWriteStarted.countDown();
+                    try {
+                        canFinishFirstWrite.await();
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+                super.saveFlashlingo(flashlingo, filePath);
+            }
+        };
+        AsyncStorage asyncStorage = new AsyncStorage(blockingStorage);
+
+        Flashlingo original = getTypicalFlashlingo();
+        asyncStorage.saveFlashlingo(original);
+        isFirstWriteStarted.await();
+        for (int i = 0; i < 3; i++) {
+            original.addFlashCard(new FlashCardBuilder(WORD).withOriginalWord("word" + i).build());
+            asyncStorage.saveFlashlingo(original);
+        }
+        canFinishFirstWrite.countDown();
+        asyncStorage.flush();
+
+        assertEquals(2, writeCount.get());
+        assertEquals(original, new Flashlingo(flashlingoStorage.readFlashlingo().get()));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsOnce() throws Exception {
+        StorageManager failingStorage = new StorageManager(flashlingoStorage, userPrefsStorage) {
+            @Override
+            public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+                throw new AccessDeniedException("prefs");
+            }
+        };
+        AsyncStorage asyncStorage = new AsyncStorage(failingStorage);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setGuiSettings(new GuiSettings(300, 600, 4, 6));
+        asyncStorage.saveUserPrefs(userPrefs);
+
+        assertThrows(AccessDeniedException.class, asyncStorage::flush);
+        asyncStorage.flush();
+        assertFalse(userPrefsStorage.readUserPrefs().isPresent());
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.flashlingo.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashlingo.testutil.Assert.assertThrows;
+import static seedu.flashlingo.testutil.TypicalFlashCards.ALICE;
+import static seedu.flashlingo.testutil.TypicalFlashCards.BENSON;
+import static seedu.flashlingo.testutil.TypicalFlashCards.WORD;
+import static seedu.flashlingo.testutil.TypicalFlashCards.getTypicalFlashlingo;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashlingo.commons.exceptions.DataLoadingException;
+import seedu.flashlingo.model.Flashlingo;
+import seedu.flashlingo.model.flashcard.FlashCard;
+import seedu.flashlingo.model.flashcard.scheduling.Sm2Algorithm;
+import seedu.flashlingo.testutil.FlashCardBuilder;
+
+public class JournalFlashlingoStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournalFlashlingoStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempFlashlingo.json");
+        storage = new JournalFlashlingoStorage(filePath, 3);
+    }
+
+    @Test
+    public void readFlashlingo_missingFiles_emptyResult() throws Exception {
+        assertFalse(storage.readFlashlingo().isPresent());
+    }
+
+    @Test
+    public void saveFlashlingo_newFlashlingo_writesSnapshotOnly() throws Exception {
+        Flashlingo original = getTypicalFlashlingo();
+        storage.saveFlashlingo(original);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new Flashlingo(storage.readFlashlingo().get()));
+    }
+
+    @Test
+    public void saveFlashlingo_changesSinceLastSave_appendsToJournal() throws Exception {
+        storage = new JournalFlashlingoStorage(filePath);
+        Flashlingo original = getTypicalFlashlingo();
+        storage.saveFlashlingo(original);
+        String snapshot = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+
+        FlashCard word = new FlashCardBuilder(WORD).build();
+        original.addFlashCard(word);
+        original.updateFlashCardLevel(word, true, word.getWhenToReview(), new Sm2Algorithm());
+        storage.saveFlashlingo(original);
+        original.setFlashCard(BENSON, new FlashCardBuilder(BENSON).withTranslatedWord("Bensonne", "French").build());
+        original.removeFlashCard(ALICE);
+        storage.saveFlashlingo(original);
+
+        // the snapshot is left untouched while the journal holds the changes
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        Flashlingo readBack = new Flashlingo(new JournalFlashlingoStorage(filePath).readFlashlingo().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getFlashCardList(), readBack.getFlashCardList());
+        int wordIndex = original.getFlashCardList().indexOf(word);
+        assertEquals(word.getProficiencyLevel(), readBack.getFlashCardList().get(wordIndex).getProficiencyLevel());
+    }
+
+    @Test
+    public void saveFlashlingo_snapshotOfSavedFlashlingo_appendsToJournal() throws Exception {
+        Flashlingo original = getTypicalFlashlingo();
+        storage.saveFlashlingo(original.snapshot());
+
+        original.addFlashCard(WORD);
+        storage.saveFlashlingo(original.snapshot());
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new Flashlingo(storage.readFlashlingo().get()));
+    }
+
+    @Test
+    public void saveFlashlingo_journalFull_compactsIntoSnapshot() throws Exception {
+        Flashlingo original = getTypicalFlashlingo();
+        storage.saveFlashlingo(original);
+
+        original.addFlashCard(WORD);
+        original.removeFlashCard(WORD);
+        storage.saveFlashlingo(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.addFlashCard(WORD);
+        original.removeFlashCard(WORD);
+        storage.saveFlashlingo(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new Flashlingo(storage.readFlashlingo().get()));
+    }
+
+    @Test
+    public void saveFlashlingo_differentFlashlingo_writesSnapshot() throws Exception {
+        Flashlingo original = getTypicalFlashlingo();
+        storage.saveFlashlingo(original);
+        original.addFlashCard(WORD);
+        storage.saveFlashlingo(original);
+
+        Flashlingo copy = new Flashlingo(original);
+        copy.removeFlashCard(ALICE);
+        storage.saveFlashlingo(copy);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(copy, new Flashlingo(storage.readFlashlingo().get()));
+    }
+
+    @Test
+    public void readFlashlingo_incompleteLastRecord_ignoresRecord() throws Exception {
+        Flashlingo original = getTypicalFlashlingo();
+        storage.saveFlashlingo(original);
+        original.addFlashCard(WORD);
+        storage.saveFlashlingo(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"type\":\"DELETE\",\"flash".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, new Flashlingo(storage.readFlashlingo().get()));
+    }
+
+    @Test
+    public void readFlashlingo_invalidRecord_throwsDataLoadingException() throws Exception {
+        storage.saveFlashlingo(getTypicalFlashlingo());
+        Files.write(storage.getJournalFilePath(), "{\"type\":\"RENAME\",\"flashCard\":{}}\n{}\n"
+                .getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> storage.readFlashlingo());
+    }
+}
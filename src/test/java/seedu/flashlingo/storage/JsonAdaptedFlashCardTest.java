@@ -3,23 +3,30 @@
 package seedu.flashlingo.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.flashlingo.storage.JsonAdaptedFlashCard.DATE_PATTERN;
 import static seedu.flashlingo.storage.JsonAdaptedFlashCard.INVALID_DATE_FORMAT_MESSAGE;
 import static seedu.flashlingo.storage.JsonAdaptedFlashCard.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.flashlingo.storage.JsonAdaptedFlashCard.WHEN_TO_REVIEW_FIELD_NAME;
 import static seedu.flashlingo.testutil.Assert.assertThrows;
 import static seedu.flashlingo.testutil.TypicalFlashCards.WORD;
 
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Date;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.flashlingo.commons.exceptions.IllegalValueException;
+import seedu.flashlingo.model.flashcard.FlashCard;
 import seedu.flashlingo.model.flashcard.ProficiencyLevel;
+import seedu.flashlingo.model.flashcard.scheduling.FsrsAlgorithm;
+import seedu.flashlingo.model.flashcard.scheduling.LeitnerAlgorithm;
+import seedu.flashlingo.model.flashcard.scheduling.Sm2Algorithm;
 import seedu.flashlingo.model.flashcard.words.OriginalWord;
 import seedu.flashlingo.model.flashcard.words.TranslatedWord;
+import seedu.flashlingo.testutil.FlashCardBuilder;
 
 public class JsonAdaptedFlashCardTest {
     private static final int INVALID_LEVEL = -1;
@@ -29,7 +36,7 @@ public class JsonAdaptedFlashCardTest {
     private static final String VALID_TRANSLATED_WORD = WORD.getTranslatedWord().getWord();
     private static final String VALID_TRANSLATED_WORD_LANGUAGE = WORD.getTranslatedWord().getLanguage();
     private static final String VALID_WHEN_TO_REVIEW = DateTimeFormatter.ofPattern(DATE_PATTERN)
-            .format(ZonedDateTime.ofInstant(WORD.getWhenToReview().toInstant(), ZoneOffset.UTC));
+            .format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(WORD.getWhenToReview()), ZoneOffset.UTC));
     private static final int VALID_LEVEL = WORD.getProficiencyLevel().getLevel();
 
     @Test
@@ -38,6 +45,30 @@ public class JsonAdaptedFlashCardTest {
         assertEquals(WORD, flashCard.toModelType());
     }
 
+    @Test
+    public void toModelType_schedulingState_keepsState() throws Exception {
+        FlashCard flashCard = new FlashCardBuilder(WORD).build();
+        flashCard.updateLevel(true, flashCard.getWhenToReview(), new FsrsAlgorithm());
+        assertEquals(flashCard.getProficiencyLevel(),
+                new JsonAdaptedFlashCard(flashCard).toModelType().getProficiencyLevel());
+    }
+
+    @Test
+    public void toModelType_notRetiredPastRetirementLevel_staysInReview() throws Exception {
+        FlashCard flashCard = new FlashCardBuilder(WORD).withLevel(LeitnerAlgorithm.RETIREMENT_LEVEL).build();
+        flashCard.updateLevel(true, flashCard.getWhenToReview(), new Sm2Algorithm());
+        assertFalse(new JsonAdaptedFlashCard(flashCard).toModelType().isDeletedFromReview());
+    }
+
+    @Test
+    public void toModelType_invalidSchedulingState_throwsIllegalValueException() {
+        JsonAdaptedFlashCard flashCard =
+                new JsonAdaptedFlashCard(VALID_ORIGINAL_WORD, VALID_ORIGINAL_WORD_LANGUAGE, VALID_TRANSLATED_WORD,
+                        VALID_TRANSLATED_WORD_LANGUAGE, VALID_WHEN_TO_REVIEW, VALID_LEVEL, 2.5, 1.0, 11.0, 0L, null);
+        String expectedMessage = ProficiencyLevel.MESSAGE_STATE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, flashCard::toModelType);
+    }
+
     @Test
     public void toModelType_nullOriginalWord_throwsIllegalValueException() {
         JsonAdaptedFlashCard flashCard = new JsonAdaptedFlashCard(null, VALID_ORIGINAL_WORD_LANGUAGE,
@@ -67,7 +98,7 @@ public class JsonAdaptedFlashCardTest {
     public void toModelType_nullWhenToReview_throwsIllegalValueException() {
         JsonAdaptedFlashCard flashCard = new JsonAdaptedFlashCard(VALID_ORIGINAL_WORD, VALID_ORIGINAL_WORD_LANGUAGE,
                 VALID_TRANSLATED_WORD, VALID_TRANSLATED_WORD_LANGUAGE, null, VALID_LEVEL);
-        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName());
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, WHEN_TO_REVIEW_FIELD_NAME);
         assertThrows(IllegalValueException.class, expectedMessage, flashCard::toModelType);
     }
 
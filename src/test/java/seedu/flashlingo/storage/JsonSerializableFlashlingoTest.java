@@ -9,6 +9,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.flashlingo.commons.exceptions.IllegalValueException;
 import seedu.flashlingo.commons.util.JsonUtil;
@@ -21,6 +25,9 @@ public class JsonSerializableFlashlingoTest {
     private static final Path INVALID_FLASH_CARD_FILE = TEST_DATA_FOLDER.resolve("invalidFlashCardFlashlingo.json");
     private static final Path DUPLICATE_FLASH_CARD_FILE = TEST_DATA_FOLDER.resolve("duplicateFlashCardFlashlingo.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_invalidFlashCardsFile_throwsIllegalValueException() throws Exception {
         JsonSerializableFlashlingo dataFromFile = JsonUtil.readJsonFile(INVALID_FLASH_CARD_FILE,
@@ -44,4 +51,41 @@ public class JsonSerializableFlashlingoTest {
         Flashlingo typicalFlashCardsFlashlingo = TypicalFlashCards.getTypicalFlashlingo();
         assertEquals(flashlingoFromFile, typicalFlashCardsFlashlingo);
     }
+
+    @Test
+    public void read_typicalFlashCardsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_FLASH_CARDS_FILE)) {
+            assertEquals(TypicalFlashCards.getTypicalFlashlingo(), JsonSerializableFlashlingo.read(parser));
+        }
+    }
+
+    @Test
+    public void read_invalidFlashCardsFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(INVALID_FLASH_CARD_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableFlashlingo.read(parser));
+        }
+    }
+
+    @Test
+    public void read_duplicateFlashCards_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_FLASH_CARD_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableFlashlingo.MESSAGE_DUPLICATE_FLASHCARD, () ->
+                    JsonSerializableFlashlingo.read(parser));
+        }
+    }
+
+    @Test
+    public void write_typicalFlashlingo_readableByBothReaders() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashlingo.json");
+        Flashlingo typicalFlashCardsFlashlingo = TypicalFlashCards.getTypicalFlashlingo();
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath)) {
+            JsonSerializableFlashlingo.write(typicalFlashCardsFlashlingo, generator);
+        }
+
+        assertEquals(typicalFlashCardsFlashlingo,
+                JsonUtil.readJsonFile(filePath, JsonSerializableFlashlingo.class).get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertEquals(typicalFlashCardsFlashlingo, JsonSerializableFlashlingo.read(parser));
+        }
+    }
 }
@@ -1,7 +1,6 @@
 package seedu.flashlingo.testutil;
 
 import java.util.Calendar;
-import java.util.Date;
 import java.util.GregorianCalendar;
 
 import seedu.flashlingo.model.flashcard.FlashCard;
@@ -18,12 +17,12 @@ public class FlashCardBuilder {
     public static final String ORIGINAL_WORD_LANGUAGE = "Chinese";
     public static final String TRANSLATED_WORD = "great";
     public static final String TRANSLATED_WORD_LANGUAGE = "English";
-    public static final Date WHEN_TO_REVIEW = new GregorianCalendar(2023, Calendar.DECEMBER, 17).getTime();
+    public static final long WHEN_TO_REVIEW = new GregorianCalendar(2023, Calendar.DECEMBER, 17).getTimeInMillis();
     public static final int LEVEL = 1;
 
     private OriginalWord originalWord;
     private TranslatedWord translatedWord;
-    private Date whenToReview; // Date the flashcard was needs to be reviewed
+    private long whenToReview; // Time the flashcard needs to be reviewed, in milliseconds since the epoch
     private ProficiencyLevel level; // How many times successfully remembered
 
     private boolean isUpdated;
@@ -47,7 +46,7 @@ public class FlashCardBuilder {
         this.originalWord = flashCardToCopy.getOriginalWord();
         this.translatedWord = flashCardToCopy.getTranslatedWord();
         this.whenToReview = flashCardToCopy.getWhenToReview();
-        this.level = flashCardToCopy.getProficiencyLevel();
+        this.level = flashCardToCopy.getProficiencyLevel().copy();
 
     }
 
@@ -84,9 +83,9 @@ public class FlashCardBuilder {
     }
 
     /**
-     * Sets the review {@code Date} of the {@code FlashCard} that we are building.
+     * Sets the review time, in milliseconds since the epoch, of the {@code FlashCard} that we are building.
      */
-    public FlashCardBuilder withWhenToReview(Date whenToReview) {
+    public FlashCardBuilder withWhenToReview(long whenToReview) {
         this.whenToReview = whenToReview;
         return this;
     }
@@ -4,7 +4,6 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -20,27 +19,27 @@ public class TypicalFlashCards {
     public static final String DEFAULT_WHEN_TO_REVIEW = "2023-01-01T00:00:00Z";
     public static final FlashCard HELLO = new FlashCardBuilder().withOriginalWord("你好", "")
             .withTranslatedWord("hello", "")
-            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 11).getTime())
+            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 11).getTimeInMillis())
             .withLevel(1).build();
     public static final FlashCard WELCOME = new FlashCardBuilder().withOriginalWord("欢迎", "")
             .withTranslatedWord("welcome", "")
-            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 12).getTime())
+            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 12).getTimeInMillis())
             .withLevel(1).build();
     public static final FlashCard THANKS = new FlashCardBuilder().withOriginalWord("ありがとう", "")
             .withTranslatedWord("thanks", "")
-            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 13).getTime())
+            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 13).getTimeInMillis())
             .withLevel(1).build();
     public static final FlashCard PLEASE = new FlashCardBuilder().withOriginalWord("Bitte", "")
             .withTranslatedWord("please", "")
-            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 14).getTime())
+            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 14).getTimeInMillis())
             .withLevel(1).build();
     public static final FlashCard HONEST = new FlashCardBuilder().withOriginalWord("honnête", "")
             .withTranslatedWord("honest", "")
-            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 15).getTime())
+            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 15).getTimeInMillis())
             .withLevel(1).build();
     public static final FlashCard NICE = new FlashCardBuilder().withOriginalWord("Leuk", "")
             .withTranslatedWord("nice", "")
-            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 16).getTime())
+            .withWhenToReview(new GregorianCalendar(2023, Calendar.DECEMBER, 16).getTimeInMillis())
             .withLevel(1).build();
     public static final FlashCard ALICE = new FlashCardBuilder()
             .withOriginalWord("Alice Pauline", "English")
@@ -83,7 +82,7 @@ public class TypicalFlashCards {
 
     public static final FlashCard WORD = new FlashCardBuilder().withOriginalWord("你好", "Chinese")
             .withTranslatedWord("hi", "English").withLevel(2)
-            .withWhenToReview(Date.from(Instant.parse(DEFAULT_WHEN_TO_REVIEW))).build();
+            .withWhenToReview(Instant.parse(DEFAULT_WHEN_TO_REVIEW).toEpochMilli()).build();
 
     // A keyword that matches MEIER
     public static final String KEYWORD_MATCHING_MEIER = "Meier";